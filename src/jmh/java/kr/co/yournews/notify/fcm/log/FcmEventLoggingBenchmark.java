@@ -0,0 +1,139 @@
+package kr.co.yournews.notify.fcm.log;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import kr.co.yournews.notify.config.properties.FcmLogProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 메시지 단위 로그 처리 비용 측정 (리스너 스레드 기준)
+ * <p>
+ * - syncFileAppender : 기존 방식 (메시지마다 전체 토큰 로그를 동기 파일 appender로 출력)
+ * - asyncFileAppender : 비동기 appender 경유 (큐 적재만 호출 스레드에서 수행, 가득 차면 버림)
+ * - recordSampledOut : 샘플링 한도 초과 시 (카운터 증가만 수행)
+ * - recordAndMask : 샘플링 한도 이내 시 (카운터 증가 + 토큰 마스킹)
+ * <p>
+ * appender는 logback-spring.xml의 FILE / ASYNC_FILE과 같은 설정으로 임시 디렉터리에 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class FcmEventLoggingBenchmark {
+
+    private static final String TOKEN =
+            "dGVzdC1mY20tdG9rZW4tZm9yLWJlbmNobWFyay1vbmx5OkFQQTkxYkhQUkdhQ0VfY2h1bmtfb2ZfdG9rZW5fZGF0YQ";
+    private static final String REASON = "Requested entity was not found.";
+    private static final String FAILURE_LOG = "[FCM] 전송 실패 - token: {}, reason: {}, x-death={}, nextAttempt={}";
+    private static final String FILE_PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n";
+
+    private FcmEventRecorder sampledOutRecorder;
+    private FcmEventRecorder unlimitedRecorder;
+
+    private LoggerContext loggerContext;
+    private Path logDirectory;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+
+    @Setup
+    public void setUp() throws IOException {
+        FcmLogProperties sampledOut = new FcmLogProperties();
+        sampledOut.setSamplesPerWindow(0);
+        sampledOutRecorder = new FcmEventRecorder(sampledOut);
+
+        FcmLogProperties unlimited = new FcmLogProperties();
+        unlimited.setSamplesPerWindow(Integer.MAX_VALUE);
+        unlimitedRecorder = new FcmEventRecorder(unlimited);
+
+        loggerContext = new LoggerContext();
+        logDirectory = Files.createTempDirectory("fcm-log-benchmark");
+
+        syncLogger = logger("benchmark.sync", fileAppender("sync.log"));
+
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(fileAppender("async.log"));
+        asyncAppender.start();
+        asyncLogger = logger("benchmark.async", asyncAppender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        loggerContext.stop();
+
+        try (Stream<Path> paths = Files.walk(logDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void syncFileAppender() {
+        syncLogger.error(FAILURE_LOG, TOKEN, REASON, 1, 2);
+    }
+
+    @Benchmark
+    public void asyncFileAppender() {
+        asyncLogger.error(FAILURE_LOG, TOKEN, REASON, 1, 2);
+    }
+
+    @Benchmark
+    public boolean recordSampledOut() {
+        return sampledOutRecorder.record(FcmEvent.SEND_FAILED, "UNAVAILABLE");
+    }
+
+    @Benchmark
+    public String recordAndMask() {
+        if (unlimitedRecorder.record(FcmEvent.SEND_FAILED, "UNAVAILABLE")) {
+            return TokenMasker.mask(TOKEN);
+        }
+        return null;
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = loggerContext.getLogger(name);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(String fileName) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(FILE_PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(loggerContext);
+        appender.setFile(logDirectory.resolve(fileName).toString());
+        appender.setAppend(false);
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,51 @@
+package kr.co.yournews.notify.admin.dto;
+
+import java.util.List;
+
+/**
+ * 전송 파이프라인 현재 상태
+ *
+ * @param listener          : 리스너 컨테이너 상태 및 설정
+ * @param retry             : 재시도 정책
+ * @param queues            : 큐별 적재 메시지 수 / 컨슈머 수
+ * @param apps              : Firebase 앱별 전송 상태 및 한도
+ * @param sendRate          : 직전 집계 주기 초당 전송 성공 수
+ * @param failureRate       : 직전 집계 주기 초당 전송 실패 수
+ * @param scheduledInMemory : 메모리(타이밍 휠)에 보류 중인 예약 메시지 수
+ */
+public record PipelineStatusDto(
+        Listener listener,
+        Retry retry,
+        List<QueueDepth> queues,
+        List<App> apps,
+        double sendRate,
+        double failureRate,
+        int scheduledInMemory
+) {
+    public record Listener(
+            boolean running,
+            int activeConsumers,
+            int concurrentConsumers,
+            int maxConcurrentConsumers,
+            int prefetchCount
+    ) {
+    }
+
+    /**
+     * @param retryTtl : 재시도 대기 시간 (큐 인자이므로 조회만 가능)
+     */
+    public record Retry(int maxRetry, int retryTtl) {
+    }
+
+    /**
+     * 브로커 조회에 실패하거나 큐가 없으면 messageCount, consumerCount는 null
+     */
+    public record QueueDepth(String name, Integer messageCount, Integer consumerCount) {
+    }
+
+    /**
+     * @param rateLimit : 초당 전송 한도 (0: 제한 없음)
+     */
+    public record App(String name, int inFlight, int maxConcurrency, double rateLimit) {
+    }
+}
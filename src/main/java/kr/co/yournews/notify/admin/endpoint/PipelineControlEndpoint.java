@@ -0,0 +1,64 @@
+package kr.co.yournews.notify.admin.endpoint;
+
+import kr.co.yournews.notify.admin.dto.PipelineStatusDto;
+import kr.co.yournews.notify.admin.service.PipelineControlService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 파이프라인 운영 제어 엔드포인트
+ * <p>
+ * POST /actuator/pipelinecontrol       : 컨슈머 수, prefetch, 재시도 횟수 변경
+ * POST /actuator/pipelinecontrol/{app} : Firebase 앱별 동시 전송 수, 초당 전송 한도 변경
+ * <p>
+ * 리스너 중지/재시작, 컨슈머 수 변경 등 전송을 멈출 수 있는 기능이므로
+ * admin.pipeline.write-enabled=true 로 명시한 인스턴스에만 등록된다.
+ * 요청 본문에 포함된 항목만 변경하며, 잘못된 값은 400으로 응답한다.
+ */
+@Component
+@Endpoint(id = "pipelinecontrol")
+@ConditionalOnProperty(prefix = "admin.pipeline", name = "write-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PipelineControlEndpoint {
+    private final PipelineControlService pipelineControlService;
+
+    @WriteOperation
+    public PipelineStatusDto update(
+            @Nullable Integer concurrentConsumers,
+            @Nullable Integer maxConcurrentConsumers,
+            @Nullable Integer prefetchCount,
+            @Nullable Integer maxRetry
+    ) {
+        try {
+            if (concurrentConsumers != null || maxConcurrentConsumers != null || prefetchCount != null) {
+                pipelineControlService.updateListener(concurrentConsumers, maxConcurrentConsumers, prefetchCount);
+            }
+            if (maxRetry != null) {
+                pipelineControlService.updateRetry(maxRetry);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+
+        return pipelineControlService.getStatus();
+    }
+
+    @WriteOperation
+    public PipelineStatusDto.App updateApp(
+            @Selector String app,
+            @Nullable Integer maxConcurrency,
+            @Nullable Double rateLimit
+    ) {
+        try {
+            return pipelineControlService.updateApp(app, maxConcurrency, rateLimit);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package kr.co.yournews.notify.admin.endpoint;
+
+import kr.co.yournews.notify.admin.dto.PipelineStatusDto;
+import kr.co.yournews.notify.admin.service.PipelineControlService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 파이프라인 상태 조회 엔드포인트 (management 포트에서만 노출)
+ * <p>
+ * GET /actuator/pipeline : 현재 상태 조회
+ * <p>
+ * 설정 변경은 PipelineControlEndpoint에서 제공하며, 기본적으로 비활성화되어 있다.
+ */
+@Component
+@Endpoint(id = "pipeline")
+@RequiredArgsConstructor
+public class PipelineEndpoint {
+    private final PipelineControlService pipelineControlService;
+
+    @ReadOperation
+    public PipelineStatusDto status() {
+        return pipelineControlService.getStatus();
+    }
+}
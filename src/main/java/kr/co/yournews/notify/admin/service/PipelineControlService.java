@@ -0,0 +1,216 @@
+package kr.co.yournews.notify.admin.service;
+
+import kr.co.yournews.notify.admin.dto.PipelineStatusDto;
+import kr.co.yournews.notify.config.properties.DeliveryScheduleProperties;
+import kr.co.yournews.notify.config.properties.RabbitMqProperties;
+import kr.co.yournews.notify.consumer.FcmNotificationConsumer;
+import kr.co.yournews.notify.fcm.app.FcmApp;
+import kr.co.yournews.notify.fcm.app.FcmAppRegistry;
+import kr.co.yournews.notify.fcm.log.FcmEvent;
+import kr.co.yournews.notify.fcm.log.FcmEventRecorder;
+import kr.co.yournews.notify.schedule.service.DeliveryScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전송 파이프라인 상태 조회 및 운영 중 설정 변경
+ * <p>
+ * 1. 컨슈머 수: 실행 중인 리스너 컨테이너에 바로 반영 (컨슈머를 추가/정리)
+ * 2. prefetch: 기존 컨슈머에는 반영되지 않으므로 컨테이너를 재시작
+ *    - 중지 시 처리 중인 메시지는 완료를 기다리고, 미확인 메시지는 브로커로 반환
+ * 3. 재시도 횟수: 다음 실패 메시지부터 적용
+ * 4. 앱별 동시 전송 수 / 초당 전송 한도: 다음 전송부터 적용 (전송 중인 요청은 그대로 완료)
+ * <p>
+ * 재시도 대기 시간(retryTtl)은 Retry 큐 인자이므로 큐를 다시 선언해야 하여 조회만 제공한다.
+ * 변경 값은 해당 인스턴스에만 적용되며, 재기동 시 설정 파일 값으로 돌아간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PipelineControlService {
+    private final RabbitListenerEndpointRegistry rabbitListenerEndpointRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final FcmAppRegistry fcmAppRegistry;
+    private final FcmEventRecorder fcmEventRecorder;
+    private final DeliveryScheduler deliveryScheduler;
+    private final RabbitMqProperties rabbitMqProperties;
+    private final DeliveryScheduleProperties deliveryScheduleProperties;
+
+    /**
+     * 현재 파이프라인 상태 조회
+     */
+    public PipelineStatusDto getStatus() {
+        SimpleMessageListenerContainer container = listenerContainer();
+
+        PipelineStatusDto.Listener listener = new PipelineStatusDto.Listener(
+                container.isRunning(),
+                container.getActiveConsumerCount(),
+                rabbitMqProperties.getConcurrentConsumers(),
+                rabbitMqProperties.getMaxConcurrentConsumers(),
+                rabbitMqProperties.getPrefetchCount()
+        );
+
+        PipelineStatusDto.Retry retry = new PipelineStatusDto.Retry(
+                rabbitMqProperties.getMaxRetry(),
+                rabbitMqProperties.getRetryTtl()
+        );
+
+        List<PipelineStatusDto.App> apps = fcmAppRegistry.getApps().stream()
+                .map(this::toAppStatus)
+                .toList();
+
+        return new PipelineStatusDto(
+                listener,
+                retry,
+                queueDepths(),
+                apps,
+                fcmEventRecorder.lastWindowRate(FcmEvent.SENT),
+                fcmEventRecorder.lastWindowRate(FcmEvent.SEND_FAILED),
+                deliveryScheduler.inMemorySize()
+        );
+    }
+
+    /**
+     * 리스너 컨슈머 수 / prefetch 변경 (null 항목은 유지)
+     *
+     * @param concurrentConsumers    : 최소 컨슈머 수
+     * @param maxConcurrentConsumers : 최대 컨슈머 수
+     * @param prefetchCount          : 컨슈머별 미확인 메시지 최대 수
+     * @throws IllegalArgumentException 값이 1 미만이거나 최소 컨슈머 수가 최대 컨슈머 수보다 큰 경우
+     */
+    public synchronized void updateListener(
+            Integer concurrentConsumers, Integer maxConcurrentConsumers, Integer prefetchCount
+    ) {
+        int concurrent = concurrentConsumers != null ? concurrentConsumers : rabbitMqProperties.getConcurrentConsumers();
+        int maxConcurrent = maxConcurrentConsumers != null ? maxConcurrentConsumers : rabbitMqProperties.getMaxConcurrentConsumers();
+        int prefetch = prefetchCount != null ? prefetchCount : rabbitMqProperties.getPrefetchCount();
+
+        requirePositive("concurrentConsumers", concurrent);
+        requirePositive("prefetchCount", prefetch);
+        if (maxConcurrent < concurrent) {
+            throw new IllegalArgumentException(
+                    "maxConcurrentConsumers must be >= concurrentConsumers: " + maxConcurrent + " < " + concurrent);
+        }
+
+        SimpleMessageListenerContainer container = listenerContainer();
+
+        // 컨테이너는 항상 concurrent <= maxConcurrent 를 검사하므로 변경 방향에 맞춰 순서를 정함
+        if (maxConcurrent >= rabbitMqProperties.getMaxConcurrentConsumers()) {
+            container.setMaxConcurrentConsumers(maxConcurrent);
+            container.setConcurrentConsumers(concurrent);
+        } else {
+            container.setConcurrentConsumers(concurrent);
+            container.setMaxConcurrentConsumers(maxConcurrent);
+        }
+        rabbitMqProperties.setConcurrentConsumers(concurrent);
+        rabbitMqProperties.setMaxConcurrentConsumers(maxConcurrent);
+
+        if (prefetch != rabbitMqProperties.getPrefetchCount()) {
+            container.setPrefetchCount(prefetch);
+            rabbitMqProperties.setPrefetchCount(prefetch);
+
+            if (container.isRunning()) {
+                container.stop();
+                container.start();
+            }
+        }
+
+        log.info("[운영 제어] 리스너 설정 변경 - concurrentConsumers: {}, maxConcurrentConsumers: {}, prefetchCount: {}",
+                concurrent, maxConcurrent, prefetch);
+    }
+
+    /**
+     * 재시도 횟수 변경
+     *
+     * @param maxRetry : 재시도 횟수 (도달 시 DLQ로 이동)
+     * @throws IllegalArgumentException 값이 1 미만인 경우
+     */
+    public synchronized void updateRetry(int maxRetry) {
+        requirePositive("maxRetry", maxRetry);
+
+        rabbitMqProperties.setMaxRetry(maxRetry);
+        log.info("[운영 제어] 재시도 횟수 변경 - maxRetry: {}", maxRetry);
+    }
+
+    /**
+     * Firebase 앱별 동시 전송 수 / 초당 전송 한도 변경 (null 항목은 유지)
+     *
+     * @param appName        : 앱 이름
+     * @param maxConcurrency : 동시 전송 수
+     * @param rateLimit      : 초당 전송 한도 (0 이하: 제한 없음)
+     * @return 변경 후 앱 상태
+     * @throws IllegalArgumentException 등록되지 않은 앱이거나 동시 전송 수가 1 미만인 경우
+     */
+    public synchronized PipelineStatusDto.App updateApp(String appName, Integer maxConcurrency, Double rateLimit) {
+        FcmApp app = fcmAppRegistry.resolve(appName);
+        if (app == null) {
+            throw new IllegalArgumentException("unknown firebase app: " + appName);
+        }
+
+        if (maxConcurrency != null) {
+            requirePositive("maxConcurrency", maxConcurrency);
+            app.resizeConcurrency(maxConcurrency);
+        }
+        if (rateLimit != null) {
+            app.changeRateLimit(rateLimit);
+        }
+
+        log.info("[운영 제어] 앱 전송 한도 변경 - app: {}, maxConcurrency: {}, rateLimit: {}",
+                app.getName(), app.getMaxConcurrency(), app.getRateLimit());
+        return toAppStatus(app);
+    }
+
+    private SimpleMessageListenerContainer listenerContainer() {
+        return (SimpleMessageListenerContainer)
+                rabbitListenerEndpointRegistry.getListenerContainer(FcmNotificationConsumer.LISTENER_ID);
+    }
+
+    /**
+     * 메인/재시도/DLQ/지연 큐 적재 수 조회 (브로커 조회 실패 시 해당 큐만 null)
+     */
+    private List<PipelineStatusDto.QueueDepth> queueDepths() {
+        String queueName = rabbitMqProperties.getQueueName();
+
+        List<String> names = new ArrayList<>();
+        names.add(queueName);
+        names.add(queueName + ".retry");
+        names.add(queueName + ".dlq");
+        for (long delay : deliveryScheduleProperties.getBrokerDelays()) {
+            names.add(queueName + ".delay." + delay);
+        }
+
+        List<PipelineStatusDto.QueueDepth> depths = new ArrayList<>();
+        for (String name : names) {
+            QueueInformation info = null;
+            try {
+                info = amqpAdmin.getQueueInfo(name);
+            } catch (AmqpException e) {
+                log.warn("[운영 제어] 큐 조회 실패 - queue: {}, reason: {}", name, e.getMessage());
+            }
+
+            depths.add(info != null
+                    ? new PipelineStatusDto.QueueDepth(name, info.getMessageCount(), info.getConsumerCount())
+                    : new PipelineStatusDto.QueueDepth(name, null, null));
+        }
+        return depths;
+    }
+
+    private PipelineStatusDto.App toAppStatus(FcmApp app) {
+        return new PipelineStatusDto.App(app.getName(), app.inFlight(), app.getMaxConcurrency(), app.getRateLimit());
+    }
+
+    private void requirePositive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+    }
+}
@@ -1,30 +1,76 @@
 package kr.co.yournews.notify.config;
 
+import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
-import org.springframework.beans.factory.annotation.Value;
+import com.google.firebase.messaging.FirebaseMessaging;
+import kr.co.yournews.notify.config.properties.FirebaseProperties;
+import kr.co.yournews.notify.fcm.app.FcmApp;
+import kr.co.yournews.notify.fcm.app.FcmAppRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Configuration
+@RequiredArgsConstructor
 public class FcmConfig {
+    private final FirebaseProperties firebaseProperties;
 
-    @Value("${firebase.key}")
-    private String firebaseKey;
-
+    /**
+     * Firebase 앱 초기화
+     * 기본 앱(firebase.key)과 추가 앱(firebase.apps)을 각각 별도 FirebaseApp으로 생성
+     */
     @Bean
-    public FirebaseApp initializeFirebase() throws IOException {
-        InputStream serviceAccount = new ClassPathResource(firebaseKey).getInputStream();
+    public FcmAppRegistry fcmAppRegistry() throws IOException {
+        FcmApp defaultApp = initializeApp(
+                FirebaseApp.DEFAULT_APP_NAME,
+                FcmAppRegistry.DEFAULT_APP_NAME,
+                firebaseProperties.getKey(),
+                firebaseProperties.getMaxConcurrency(),
+                firebaseProperties.getRateLimit()
+        );
+
+        Map<String, FcmApp> namedApps = new LinkedHashMap<>();
+        for (Map.Entry<String, FirebaseProperties.App> entry : firebaseProperties.getApps().entrySet()) {
+            FirebaseProperties.App app = entry.getValue();
+
+            namedApps.put(entry.getKey(), initializeApp(
+                    entry.getKey(),
+                    entry.getKey(),
+                    app.getKey(),
+                    app.getMaxConcurrency() != null ? app.getMaxConcurrency() : firebaseProperties.getMaxConcurrency(),
+                    app.getRateLimit() != null ? app.getRateLimit() : firebaseProperties.getRateLimit()
+            ));
+        }
+
+        return new FcmAppRegistry(defaultApp, namedApps);
+    }
 
-        FirebaseOptions options = FirebaseOptions.builder()
-                .setCredentials(GoogleCredentials.fromStream(serviceAccount))
-                .build();
+    /**
+     * 앱마다 FirebaseApp과 타임아웃을 따로 설정
+     * NetHttpTransport는 JVM 공용 keep-alive 캐시(호스트 단위)를 사용하므로 커넥션 풀은 앱 간에 공유되며,
+     * 앱 간 격리는 FcmApp의 전송 슬롯, 초당 전송 한도, 일시 중단 상태로 보장한다.
+     */
+    private FcmApp initializeApp(
+            String firebaseAppName, String name, String key, int maxConcurrency, double rateLimit
+    ) throws IOException {
+        try (InputStream serviceAccount = new ClassPathResource(key).getInputStream()) {
+            FirebaseOptions options = FirebaseOptions.builder()
+                    .setCredentials(GoogleCredentials.fromStream(serviceAccount))
+                    .setHttpTransport(new NetHttpTransport())
+                    .setConnectTimeout(firebaseProperties.getConnectTimeout())
+                    .setReadTimeout(firebaseProperties.getReadTimeout())
+                    .build();
 
-        return FirebaseApp.initializeApp(options);
+            FirebaseApp firebaseApp = FirebaseApp.initializeApp(options, firebaseAppName);
+            return new FcmApp(name, FirebaseMessaging.getInstance(firebaseApp), maxConcurrency, rateLimit);
+        }
     }
 }
@@ -1,11 +1,15 @@
 package kr.co.yournews.notify.config;
 
+import kr.co.yournews.notify.config.properties.DeliveryScheduleProperties;
 import kr.co.yournews.notify.config.properties.RabbitMqProperties;
+import kr.co.yournews.notify.consumer.handler.FcmListenerErrorHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
@@ -16,11 +20,15 @@ import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class RabbitMqConfig {
     private final RabbitMqProperties rabbitMqProperties;
+    private final DeliveryScheduleProperties deliveryScheduleProperties;
 
     @Bean
     DirectExchange mainExchange() {
@@ -37,6 +45,11 @@ public class RabbitMqConfig {
         return new DirectExchange(rabbitMqProperties.getDeadExchangeName());
     }
 
+    @Bean
+    DirectExchange delayExchange() {
+        return new DirectExchange(rabbitMqProperties.getDelayExchangeName());
+    }
+
     /**
      * Main Queue (일반 메시지 처리용) 생성
      * 소비 실패 시, Retry 큐로 이동
@@ -100,23 +113,48 @@ public class RabbitMqConfig {
                 .with(rabbitMqProperties.getRoutingKey() + ".dlq");
     }
 
+    /**
+     * Delay Queue 생성 및 Exchange 바인딩 (예약 전송용)
+     * 지연 시간별로 큐를 나누어 큐 단위 TTL을 사용하므로, 메시지가 앞 메시지에 막히지 않음
+     * TTL만큼 대기 후, 전송 시각 재판단을 위해 메인 큐로 이동
+     */
+    @Bean
+    public Declarables delayQueues(DirectExchange delayExchange) {
+        List<Declarable> declarables = new ArrayList<>();
+
+        for (long delay : deliveryScheduleProperties.getBrokerDelays()) {
+            Queue delayQueue = QueueBuilder.durable(rabbitMqProperties.getQueueName() + ".delay." + delay)
+                    .withArgument("x-message-ttl", delay)
+                    .withArgument("x-dead-letter-exchange", rabbitMqProperties.getExchangeName())
+                    .withArgument("x-dead-letter-routing-key", rabbitMqProperties.getRoutingKey())
+                    .build();
+
+            declarables.add(delayQueue);
+            declarables.add(BindingBuilder.bind(delayQueue)
+                    .to(delayExchange)
+                    .with(rabbitMqProperties.getRoutingKey() + ".delay." + delay));
+        }
+
+        return new Declarables(declarables);
+    }
+
     /**
      * 메시지 리스너 컨테이너 설정
+     * 컨슈머 수, prefetch는 운영 중 PipelineControlService로 변경 가능
      */
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory
     ) {
-        int processors = Runtime.getRuntime().availableProcessors();
-
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(jackson2JsonMessageConverter());
-        factory.setConcurrentConsumers(processors * 2);
-        factory.setMaxConcurrentConsumers(processors * 3);
-        factory.setPrefetchCount(10);
+        factory.setConcurrentConsumers(rabbitMqProperties.getConcurrentConsumers());
+        factory.setMaxConcurrentConsumers(rabbitMqProperties.getMaxConcurrentConsumers());
+        factory.setPrefetchCount(rabbitMqProperties.getPrefetchCount());
         factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
         factory.setDefaultRequeueRejected(false);
+        factory.setErrorHandler(new FcmListenerErrorHandler());
 
         return factory;
     }
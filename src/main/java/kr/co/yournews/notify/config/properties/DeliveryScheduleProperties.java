@@ -0,0 +1,21 @@
+package kr.co.yournews.notify.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "delivery.schedule")
+@Getter @Setter
+public class DeliveryScheduleProperties {
+    private long tickMs = 100L;                     // 타이밍 휠 틱 간격 (ms)
+    private int wheelSize = 64;                     // 휠 단계별 슬롯 수 (2의 거듭제곱)
+    private int wheelLevels = 2;                    // 휠 단계 수
+    private long inMemoryHorizon = 5_000L;          // 메모리에 보류할 최대 대기 시간 (ms, 비정상 종료 시 유실 구간)
+    private int maxInMemory = 20_000;               // 메모리에 보류할 최대 메시지 수 (비정상 종료 시 최대 유실 수)
+    private List<Long> brokerDelays = new ArrayList<>(List.of(5_000L, 30_000L, 300_000L, 3_600_000L));  // 브로커 지연 큐 TTL (ms)
+}
@@ -0,0 +1,14 @@
+package kr.co.yournews.notify.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "fcm.log")
+@Getter @Setter
+public class FcmLogProperties {
+    private long summaryInterval = 10_000L;     // 이벤트 집계 로그 출력 주기 (ms)
+    private int samplesPerWindow = 10;          // 집계 주기당 이벤트별 상세 로그 최대 건수
+}
@@ -0,0 +1,33 @@
+package kr.co.yournews.notify.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "firebase")
+@Getter @Setter
+public class FirebaseProperties {
+    private String key;                             // 기본 앱 서비스 계정 키 경로
+    private int maxConcurrency = 64;                // 앱별 동시 전송 수 (기본값)
+    private double rateLimit = 0;                   // 앱별 초당 전송 한도 (0 이하: 제한 없음, 기본값)
+    private long acquireTimeout = 100L;             // 전송 슬롯 대기 시간 (ms), 초과 시 재시도 큐로 이동
+    private long quotaPause = 10_000L;              // QUOTA_EXCEEDED 응답 시 해당 앱 전송 중단 시간 (ms)
+    private int connectTimeout = 5_000;             // FCM 연결 타임아웃 (ms)
+    private int readTimeout = 10_000;               // FCM 응답 타임아웃 (ms)
+    private Map<String, App> apps = new LinkedHashMap<>();  // 추가 앱 (이름 → 설정)
+
+    /**
+     * 추가 Firebase 앱 설정 (미지정 항목은 기본값 사용)
+     */
+    @Getter @Setter
+    public static class App {
+        private String key;
+        private Integer maxConcurrency;
+        private Double rateLimit;
+    }
+}
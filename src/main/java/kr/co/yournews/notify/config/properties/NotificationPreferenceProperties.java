@@ -0,0 +1,18 @@
+package kr.co.yournews.notify.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+
+@Component
+@ConfigurationProperties(prefix = "notification.preference")
+@Getter @Setter
+public class NotificationPreferenceProperties {
+    private boolean enabled = true;                         // 수신 설정 필터 사용 여부
+    private long refreshInterval = 30_000L;                 // 증분 갱신 주기 (ms)
+    private long fullReloadInterval = 3_600_000L;           // 전체 재적재 주기 (ms)
+    private ZoneId defaultZone = ZoneId.of("Asia/Seoul");   // 시간대 미설정 토큰의 기본 시간대
+}
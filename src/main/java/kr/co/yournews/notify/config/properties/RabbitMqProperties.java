@@ -13,6 +13,13 @@ public class RabbitMqProperties {
     private String exchangeName;
     private String retryExchangeName;
     private String deadExchangeName;
+    private String delayExchangeName;
     private String routingKey;
-    private int retryTtl;
+    private int retryTtl;                           // 재시도 대기 시간 (ms, 큐 인자이므로 운영 중 변경 불가)
+
+    /* 운영 중 변경 가능 (PipelineControlService) */
+    private volatile int concurrentConsumers = Runtime.getRuntime().availableProcessors() * 2;      // 리스너 최소 컨슈머 수
+    private volatile int maxConcurrentConsumers = Runtime.getRuntime().availableProcessors() * 3;   // 리스너 최대 컨슈머 수
+    private volatile int prefetchCount = 10;        // 컨슈머별 미확인 메시지 최대 수
+    private volatile int maxRetry = 3;              // 재시도 횟수 (도달 시 DLQ로 이동)
 }
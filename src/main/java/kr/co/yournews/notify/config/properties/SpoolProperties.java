@@ -0,0 +1,20 @@
+package kr.co.yournews.notify.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "spool")
+@Getter @Setter
+public class SpoolProperties {
+    private boolean enabled = true;                 // 스풀 사용 여부 (false면 즉시 DB 반영)
+    private String directory = "./spool/notify";    // 세그먼트/체크포인트 저장 경로
+    private int segmentSize = 64 * 1024 * 1024;     // 세그먼트 파일 크기 (byte)
+    private int maxSegments = 16;                   // 미반영 세그먼트 최대 수 (초과 시 즉시 DB 반영)
+    private long drainInterval = 1_000L;            // DB 반영 주기 (ms)
+    private int batchSize = 500;                    // DB 반영 배치 크기
+    private int maxBatchesPerRun = 20;              // 주기당 최대 반영 배치 수 (나머지는 다음 주기)
+    private int queryTimeout = 10;                  // 일괄 삭제 쿼리 타임아웃 (초)
+}
@@ -2,14 +2,21 @@ package kr.co.yournews.notify.consumer;
 
 import kr.co.yournews.notify.config.properties.RabbitMqProperties;
 import kr.co.yournews.notify.consumer.dto.FcmMessageDto;
+import kr.co.yournews.notify.fcm.log.FcmEvent;
+import kr.co.yournews.notify.fcm.log.FcmEventRecorder;
+import kr.co.yournews.notify.fcm.log.TokenMasker;
+import kr.co.yournews.notify.fcm.preference.service.NotificationPreferenceFilter;
 import kr.co.yournews.notify.fcm.sender.FcmNotificationSender;
 import kr.co.yournews.notify.fcm.sender.constant.FcmConstant;
 import kr.co.yournews.notify.fcm.sender.exception.FcmSendFailureException;
 import kr.co.yournews.notify.fcm.sender.response.FcmSendResult;
 import kr.co.yournews.notify.fcm.token.service.FcmTokenService;
+import kr.co.yournews.notify.schedule.service.DeliveryScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -26,10 +33,13 @@ import java.util.Map;
 public class FcmNotificationConsumer {
     private final FcmNotificationSender fcmNotificationSender;
     private final FcmTokenService fcmTokenService;
+    private final NotificationPreferenceFilter notificationPreferenceFilter;
+    private final DeliveryScheduler deliveryScheduler;
+    private final FcmEventRecorder fcmEventRecorder;
     private final RabbitMqProperties rabbitMqProperties;
     private final RabbitTemplate rabbitTemplate;
 
-    private static final int MAX_RETRY = 3;                 // 재시도 횟수
+    public static final String LISTENER_ID = "fcmNotificationListener";    // 리스너 컨테이너 ID (운영 제어용)
     private static final String X_DEATH = "x-death";        // Rabbit header key
     private static final String HDR_QUEUE = "queue";        // x-death 필드
     private static final String HDR_COUNT = "count";        // x-death 필드
@@ -37,30 +47,69 @@ public class FcmNotificationConsumer {
     /**
      * RabbitMQ로부터 수신된 FCM 메시지를 처리하는 메서드
      * <p>
-     * 1. FCM 서버에 푸시 알림을 전송
-     * 2. 전송 결과에 따라 유효하지 않은 토큰을 삭제
-     * 3. 전송 실패 시 RuntimeException을 발생시켜 재시도 처리를 유도함
-     * 4. 재시도를 실패하면, DLQ로 이동
+     * 1. 예약 전송 메시지는 전송 시각까지 보류 (타이밍 휠 또는 지연 큐)
+     * 2. 수신자 설정(수신 거부, 방해 금지 시간 등)에 따라 전송 대상이 아니면 전송 없이 ACK
+     * 3. 메시지의 Firebase 앱으로 FCM 서버에 푸시 알림을 전송
+     * 4. 전송 결과에 따라 유효하지 않은 토큰을 삭제 (로컬 스풀에 기록 후 DB에 일괄 반영)
+     * 5. 로컬 전송 한도 초과 시 재시도 횟수 증가 없이 재시도 큐로 재발행
+     * 6. 전송 실패 시 RuntimeException을 발생시켜 재시도 처리를 유도함
+     * 7. 재시도를 실패하면, DLQ로 이동
      *
-     * @param message : (FCM 토큰, 알림 제목, 알림 내용)
+     * @param message : (FCM 토큰, 알림 제목, 알림 내용, 카테고리, 예약 전송 정보, 앱 이름)
      */
-    @RabbitListener(queues = "${rabbitmq.queue-name}", containerFactory = "rabbitListenerContainerFactory")
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${rabbitmq.queue-name}",
+            containerFactory = "rabbitListenerContainerFactory"
+    )
     public void handleMessage(@Payload FcmMessageDto message, Message amqpMessage) {
         if (message.isFirst()) {
             log.info("[FCM] 소식 단위 전송 시작 (추정) - title: {}", message.title());
         }
 
+        long now = System.currentTimeMillis();
+
+        // 예약 전송: 전송 시각까지 보류 후 ACK (전송 시각에 메인 큐로 재발행되어 다시 판단)
+        if (deliveryScheduler.deferIfScheduled(message, now)) {
+            fcmEventRecorder.record(FcmEvent.DEFERRED, null);
+            return;
+        }
+
+        // 비전송: 수신자 설정에 의해 필터링 (네트워크 호출 없이 ACK)
+        if (!notificationPreferenceFilter.isDeliverable(message.token(), message.category(), now)) {
+            fcmEventRecorder.record(FcmEvent.FILTERED, null);
+            return;
+        }
+
         String content = FcmConstant.NEWS_NOTIFICATION_CONTENT;
         Map<String, String> data = buildMessageData(message.data());
 
         FcmSendResult result = fcmNotificationSender.sendNotification(
-                message.token(), message.title(), content, data
+                message.appName(), message.token(), message.title(), content, data
         );
 
         // 비재시도: 잘못된/만료 토큰
         if (result.shouldRemoveToken()) {
-            log.warn("[FCM] 유효하지 않은 토큰 삭제 - token: {}", message.token());
-            fcmTokenService.removeByToken(message.token());
+            if (fcmEventRecorder.record(FcmEvent.TOKEN_REMOVED, result.errorCode())) {
+                log.warn("[FCM] 유효하지 않은 토큰 삭제 - token: {}, code: {}",
+                        TokenMasker.mask(message.token()), result.errorCode());
+            }
+            fcmTokenService.deferRemoval(message.token());
+            return;
+        }
+
+        // 로컬 전송 한도 초과(슬롯 부족, 초당 한도, 할당량 소진 후 중단): 재시도 횟수에 포함하지 않음
+        // 예외로 NACK 하면 x-death 횟수가 늘어나므로, 원본 메시지를 재시도 큐로 직접 재발행 후 ACK
+        // 수신 메시지는 deliveryMode가 비어 있으므로(receivedDeliveryMode로 이동) 영속 모드를 다시 지정
+        if (result.throttled()) {
+            fcmEventRecorder.record(FcmEvent.THROTTLED, result.errorCode());
+            rabbitTemplate.send(
+                    rabbitMqProperties.getRetryExchangeName(),
+                    rabbitMqProperties.getRoutingKey() + ".retry",
+                    MessageBuilder.fromMessage(amqpMessage)
+                            .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                            .build()
+            );
             return;
         }
 
@@ -69,18 +118,23 @@ public class FcmNotificationConsumer {
             int deathCount = extractDeathCount(amqpMessage, rabbitMqProperties.getQueueName());
             int nextAttempt = deathCount + 1;
 
-            log.error("[FCM] 전송 실패 - token: {}, reason: {}, x-death={}, nextAttempt={}",
-                    message.token(), result.message(), deathCount, nextAttempt);
+            if (fcmEventRecorder.record(FcmEvent.SEND_FAILED, result.errorCode())) {
+                log.error("[FCM] 전송 실패 - token: {}, code: {}, reason: {}, x-death={}, nextAttempt={}",
+                        TokenMasker.mask(message.token()), result.errorCode(), result.message(),
+                        deathCount, nextAttempt);
+            }
 
-            // 최대 재시도 횟수 도달 → 최종 DLQ로 격리 후 ACK (루프 종료)
-            if (nextAttempt >= MAX_RETRY) {
+            // 재시도 불가(등록되지 않은 앱, 메시지 구성 불가) 또는 최대 재시도 횟수 도달 → 최종 DLQ로 격리 후 ACK (루프 종료)
+            if (result.nonRetryable() || nextAttempt >= rabbitMqProperties.getMaxRetry()) {
                 rabbitTemplate.convertAndSend(
                         rabbitMqProperties.getDeadExchangeName(),
                         rabbitMqProperties.getRoutingKey() + ".dlq",
                         message
                 );
 
-                log.error("[FCM] 최종 실패 → DLQ로 이동 - token: {}", message.token());
+                if (fcmEventRecorder.record(FcmEvent.DEAD_LETTERED, result.errorCode())) {
+                    log.error("[FCM] 최종 실패 → DLQ로 이동 - token: {}", TokenMasker.mask(message.token()));
+                }
                 return;
             }
 
@@ -88,6 +142,7 @@ public class FcmNotificationConsumer {
             throw new FcmSendFailureException(result.message());
         }
 
+        fcmEventRecorder.record(FcmEvent.SENT, null);
 
         if (message.isLast()) {
             log.info("[FCM] 소식 단위 전송 완료 (추정) - title: {}", message.title());
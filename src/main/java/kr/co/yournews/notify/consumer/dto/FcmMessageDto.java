@@ -1,10 +1,48 @@
 package kr.co.yournews.notify.consumer.dto;
 
+/**
+ * FCM 전송 요청 메시지
+ *
+ * @param token             : 수신자의 FCM 디바이스 토큰
+ * @param title             : 알림 제목
+ * @param data              : 알림 추가 데이터 (publicId)
+ * @param isFirst           : 소식 단위 첫 메시지 여부
+ * @param isLast            : 소식 단위 마지막 메시지 여부
+ * @param category          : 소식 카테고리 (수신 설정 필터링 기준, 없으면 null)
+ * @param deliverAt         : 예약 전송 시각 (epoch millis, 없으면 즉시 전송)
+ * @param localDeliveryTime : 수신자 현지 시각 기준 전송 시각 (HH:mm, 없으면 null)
+ * @param smearMinutes      : 전송 시각을 분산시킬 구간 (분, 대량 발송 시 부하 평탄화)
+ * @param appName           : 전송할 Firebase 앱 이름 (없으면 기본 앱)
+ */
 public record FcmMessageDto(
         String token,
         String title,
         String data,
         boolean isFirst,
-        boolean isLast
+        boolean isLast,
+        String category,
+        Long deliverAt,
+        String localDeliveryTime,
+        Integer smearMinutes,
+        String appName
 ) {
+    /**
+     * 전송 시각 계산이 필요한 메시지인지 여부
+     */
+    public boolean requiresScheduling() {
+        return deliverAt != null
+                || localDeliveryTime != null
+                || (smearMinutes != null && smearMinutes > 0);
+    }
+
+    /**
+     * 계산된 전송 시각을 확정한 메시지 반환
+     * 재수신 시 분산/현지 시각 계산이 반복되지 않도록 해당 필드는 비움
+     */
+    public FcmMessageDto withDeliverAt(long resolvedDeliverAt) {
+        return new FcmMessageDto(
+                token, title, data, isFirst, isLast, category,
+                resolvedDeliverAt, null, null, appName
+        );
+    }
 }
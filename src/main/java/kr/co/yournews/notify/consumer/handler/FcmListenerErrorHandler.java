@@ -0,0 +1,27 @@
+package kr.co.yournews.notify.consumer.handler;
+
+import kr.co.yournews.notify.fcm.sender.exception.FcmSendFailureException;
+import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
+
+/**
+ * 리스너 예외 처리기
+ * <p>
+ * 재시도 큐로 보내기 위한 FcmSendFailureException은 FcmEventRecorder가 집계하므로 로그를 남기지 않고,
+ * 그 외 예외(DB, 브로커 발행 실패 등)는 기본 처리기와 동일하게 로그를 남긴다.
+ * 예외 분류(치명적 예외 → 즉시 거부)는 기본 전략을 그대로 사용한다.
+ */
+public class FcmListenerErrorHandler extends ConditionalRejectingErrorHandler {
+
+    @Override
+    protected void log(Throwable t) {
+        if (isSendFailure(t)) return;
+        super.log(t);
+    }
+
+    private boolean isSendFailure(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FcmSendFailureException) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,122 @@
+package kr.co.yournews.notify.fcm.app;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.firebase.messaging.FirebaseMessaging;
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Firebase 앱 단위 전송 자원
+ * <p>
+ * 앱마다 전송 슬롯(동시 전송 수), 초당 전송 한도, 일시 중단 상태를 따로 두어
+ * 한 앱의 할당량 소진이나 지연이 다른 앱의 전송을 막지 않도록 격리한다.
+ * 동시 전송 수와 초당 전송 한도는 운영 중 변경할 수 있다.
+ */
+public class FcmApp {
+    @Getter
+    private final String name;
+    @Getter
+    private final FirebaseMessaging messaging;
+    @Getter
+    private volatile int maxConcurrency;
+
+    private final ResizableSemaphore permits;
+    private volatile RateLimiter rateLimiter;
+    private volatile long pausedUntil;
+
+    public FcmApp(String name, FirebaseMessaging messaging, int maxConcurrency, double rateLimit) {
+        this.name = name;
+        this.messaging = messaging;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new ResizableSemaphore(maxConcurrency);
+        this.rateLimiter = rateLimit > 0 ? RateLimiter.create(rateLimit) : null;
+    }
+
+    /**
+     * 전송 슬롯 획득 (일시 중단 중이거나, 대기 시간 내에 한도/슬롯을 얻지 못하면 false)
+     */
+    public boolean tryAcquire(long timeoutMs) {
+        if (System.currentTimeMillis() < pausedUntil) return false;
+
+        RateLimiter limiter = rateLimiter;
+        if (limiter != null && !limiter.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+
+        try {
+            return permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 할당량 소진 시 일정 시간 동안 해당 앱의 전송을 중단
+     */
+    public void pause(long durationMs) {
+        pausedUntil = System.currentTimeMillis() + durationMs;
+    }
+
+    /**
+     * 현재 전송 중인 요청 수
+     */
+    public int inFlight() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * 동시 전송 수 변경
+     * 줄이는 경우 전송 중인 요청은 그대로 완료되고, 반환된 슬롯이 새 한도까지 회수된다.
+     */
+    public synchronized void resizeConcurrency(int newMaxConcurrency) {
+        int delta = newMaxConcurrency - maxConcurrency;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reducePermits(-delta);
+        }
+        maxConcurrency = newMaxConcurrency;
+    }
+
+    /**
+     * 초당 전송 한도 (0: 제한 없음)
+     */
+    public double getRateLimit() {
+        RateLimiter limiter = rateLimiter;
+        return limiter != null ? limiter.getRate() : 0;
+    }
+
+    /**
+     * 초당 전송 한도 변경 (0 이하: 제한 없음)
+     */
+    public synchronized void changeRateLimit(double rateLimit) {
+        if (rateLimit <= 0) {
+            rateLimiter = null;
+        } else if (rateLimiter != null) {
+            rateLimiter.setRate(rateLimit);
+        } else {
+            rateLimiter = RateLimiter.create(rateLimit);
+        }
+    }
+
+    /**
+     * 사용 가능한 슬롯을 음수까지 줄일 수 있도록 reducePermits를 노출
+     */
+    private static class ResizableSemaphore extends Semaphore {
+        ResizableSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package kr.co.yournews.notify.fcm.app;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이름으로 Firebase 앱을 찾는 저장소
+ * 앱 이름이 없으면 기본 앱을 사용한다.
+ */
+public class FcmAppRegistry {
+    public static final String DEFAULT_APP_NAME = "default";
+
+    private final FcmApp defaultApp;
+    private final Map<String, FcmApp> apps;
+
+    public FcmAppRegistry(FcmApp defaultApp, Map<String, FcmApp> namedApps) {
+        Map<String, FcmApp> apps = new LinkedHashMap<>();
+        apps.put(DEFAULT_APP_NAME, defaultApp);
+        apps.putAll(namedApps);
+
+        this.defaultApp = defaultApp;
+        this.apps = Collections.unmodifiableMap(apps);
+    }
+
+    /**
+     * 앱 이름으로 조회 (이름이 없으면 기본 앱, 등록되지 않은 이름이면 null)
+     */
+    public FcmApp resolve(String appName) {
+        if (appName == null || appName.isBlank()) return defaultApp;
+        return apps.get(appName);
+    }
+
+    public Collection<FcmApp> getApps() {
+        return apps.values();
+    }
+}
@@ -0,0 +1,21 @@
+package kr.co.yournews.notify.fcm.log;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메시지 단위로 집계하는 FCM 처리 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FcmEvent {
+    SENT("전송 성공"),
+    SEND_FAILED("전송 실패"),
+    THROTTLED("전송 한도 초과 재대기"),
+    TOKEN_REMOVED("토큰 삭제"),
+    DEAD_LETTERED("DLQ 이동"),
+    FILTERED("수신 설정 필터링"),
+    DEFERRED("예약 보류");
+
+    private final String description;
+}
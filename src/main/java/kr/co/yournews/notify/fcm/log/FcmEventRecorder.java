@@ -0,0 +1,122 @@
+package kr.co.yournews.notify.fcm.log;
+
+import kr.co.yournews.notify.config.properties.FcmLogProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메시지 단위 이벤트를 집계하고 상세 로그 출력 여부를 결정하는 클래스
+ * <p>
+ * 1. 모든 이벤트는 (이벤트, 에러 코드)별 카운터에만 누적 → 로그 없이 집계
+ * 2. 집계 주기마다 이벤트별 상세 로그는 samplesPerWindow 건까지만 허용 (샘플링)
+ * 3. 집계 주기마다 "최근 N초 전송 실패 12,345건 - 코드별: {...}" 형태의 요약 로그 출력
+ * <p>
+ * 장애 상황에서도 로그 양이 메시지 수와 무관하게 일정하게 유지된다.
+ * 직전 집계 주기의 이벤트별 건수는 초당 처리량 조회용으로 보관한다.
+ */
+@Slf4j
+@Component
+public class FcmEventRecorder {
+    private final FcmLogProperties fcmLogProperties;
+
+    private final Map<FcmEvent, ConcurrentHashMap<String, LongAdder>> counters = new EnumMap<>(FcmEvent.class);
+    private final Map<FcmEvent, AtomicInteger> sampleBudgets = new EnumMap<>(FcmEvent.class);
+    private volatile long windowStartedAt = System.currentTimeMillis();
+    private volatile Window lastWindow = new Window(Map.of(), 1L);
+
+    private static final String NO_CODE = "NONE";
+
+    public FcmEventRecorder(FcmLogProperties fcmLogProperties) {
+        this.fcmLogProperties = fcmLogProperties;
+
+        for (FcmEvent event : FcmEvent.values()) {
+            counters.put(event, new ConcurrentHashMap<>());
+            sampleBudgets.put(event, new AtomicInteger(fcmLogProperties.getSamplesPerWindow()));
+        }
+    }
+
+    /**
+     * 이벤트를 집계하고, 상세 로그를 남겨도 되는지 반환하는 메서드
+     *
+     * @param event     : 이벤트 종류
+     * @param errorCode : 에러 코드 (없으면 null)
+     * @return 상세 로그 출력 여부 (집계 주기당 samplesPerWindow 건까지 true)
+     */
+    public boolean record(FcmEvent event, String errorCode) {
+        String code = errorCode != null ? errorCode : NO_CODE;
+
+        ConcurrentHashMap<String, LongAdder> byCode = counters.get(event);
+        LongAdder counter = byCode.get(code);
+        if (counter == null) {
+            counter = byCode.computeIfAbsent(code, key -> new LongAdder());
+        }
+        counter.increment();
+
+        return sampleBudgets.get(event).getAndDecrement() > 0;
+    }
+
+    /**
+     * 직전 집계 주기의 초당 이벤트 수
+     *
+     * @param event : 이벤트 종류
+     * @return 직전 집계 주기 건수 / 주기 길이(초)
+     */
+    public double lastWindowRate(FcmEvent event) {
+        Window window = lastWindow;
+        return (double) window.totals().getOrDefault(event, 0L) / window.elapsedSeconds();
+    }
+
+    /**
+     * 집계 주기 동안 누적된 이벤트를 요약 로그로 출력하고 카운터와 샘플링 한도를 초기화
+     */
+    @Scheduled(
+            initialDelayString = "#{@fcmLogProperties.summaryInterval}",
+            fixedDelayString = "#{@fcmLogProperties.summaryInterval}"
+    )
+    public void summarize() {
+        long now = System.currentTimeMillis();
+        long elapsedSeconds = Math.max(1L, (now - windowStartedAt) / 1000L);
+        windowStartedAt = now;
+
+        Map<FcmEvent, Long> totals = new EnumMap<>(FcmEvent.class);
+        for (FcmEvent event : FcmEvent.values()) {
+            Map<String, Long> byCode = new TreeMap<>();
+            long total = 0L;
+
+            for (Map.Entry<String, LongAdder> entry : counters.get(event).entrySet()) {
+                long count = entry.getValue().sumThenReset();
+                if (count > 0) {
+                    byCode.put(entry.getKey(), count);
+                    total += count;
+                }
+            }
+
+            AtomicInteger budget = sampleBudgets.get(event);
+            int suppressed = Math.max(0, -budget.getAndSet(fcmLogProperties.getSamplesPerWindow()));
+
+            if (total == 0) continue;
+            totals.put(event, total);
+
+            if (event == FcmEvent.SENT || event == FcmEvent.FILTERED || event == FcmEvent.DEFERRED) {
+                log.info("[FCM 집계] 최근 {}초 {} {}건",
+                        elapsedSeconds, event.getDescription(), String.format("%,d", total));
+            } else {
+                log.warn("[FCM 집계] 최근 {}초 {} {}건 (상세 로그 생략 {}건) - 코드별: {}",
+                        elapsedSeconds, event.getDescription(), String.format("%,d", total), suppressed, byCode);
+            }
+        }
+
+        lastWindow = new Window(totals, elapsedSeconds);
+    }
+
+    private record Window(Map<FcmEvent, Long> totals, long elapsedSeconds) {
+    }
+}
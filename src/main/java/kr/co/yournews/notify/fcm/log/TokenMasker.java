@@ -0,0 +1,18 @@
+package kr.co.yournews.notify.fcm.log;
+
+/**
+ * 로그 출력용 FCM 토큰 마스킹
+ * 앞 8자리와 토큰 해시만 남겨, 원본 토큰 노출 없이 같은 토큰끼리는 로그에서 추적 가능
+ */
+public final class TokenMasker {
+    private TokenMasker() { }
+
+    private static final int VISIBLE_PREFIX = 8;
+
+    public static String mask(String token) {
+        if (token == null) return "null";
+        if (token.length() <= VISIBLE_PREFIX) return "***";
+
+        return token.substring(0, VISIBLE_PREFIX) + "...#" + Integer.toHexString(token.hashCode());
+    }
+}
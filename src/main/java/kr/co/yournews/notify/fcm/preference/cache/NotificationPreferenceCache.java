@@ -0,0 +1,121 @@
+package kr.co.yournews.notify.fcm.preference.cache;
+
+import jakarta.annotation.PostConstruct;
+import kr.co.yournews.notify.config.properties.NotificationPreferenceProperties;
+import kr.co.yournews.notify.fcm.preference.model.NotificationPreference;
+import kr.co.yournews.notify.fcm.preference.repository.NotificationPreferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰별 알림 수신 설정을 메모리에 보관하는 캐시
+ * <p>
+ * 1. 기동 시 전체 설정을 일괄 적재
+ * 2. updated_at 기준으로 변경분만 주기적으로 반영 (증분 갱신)
+ * 3. 삭제된 설정 정리를 위해 전체 재적재를 주기적으로 수행
+ * <p>
+ * DB 조회에 실패하면 기존 스냅샷을 유지하며, 설정이 없는 토큰은 모두 수신 허용으로 처리한다.
+ * 적재된 설정이 없거나(빈 테이블) 최초 적재에 실패한 경우 워터마크는 INITIAL_WATERMARK로 두어,
+ * 증분 갱신이 전체 재적재로 반복되지 않고 이후 변경분부터 반영되도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPreferenceCache {
+    private final NotificationPreferenceRepository notificationPreferenceRepository;
+    private final NotificationPreferenceProperties notificationPreferenceProperties;
+
+    private volatile Map<String, NotificationPreference> snapshot = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastUpdatedAt = INITIAL_WATERMARK;
+
+    public static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);   // 적재된 설정이 없을 때의 워터마크
+
+    /**
+     * 토큰의 수신 설정 조회 (설정이 없으면 null)
+     */
+    public NotificationPreference get(String token) {
+        return snapshot.get(token);
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (notificationPreferenceProperties.isEnabled()) {
+            reload();
+        }
+    }
+
+    /**
+     * 전체 수신 설정 재적재
+     * 새 스냅샷을 만든 뒤 교체하므로, 조회 중인 스레드는 이전 스냅샷을 그대로 사용
+     */
+    @Scheduled(
+            initialDelayString = "#{@notificationPreferenceProperties.fullReloadInterval}",
+            fixedDelayString = "#{@notificationPreferenceProperties.fullReloadInterval}"
+    )
+    public synchronized void reload() {
+        if (!notificationPreferenceProperties.isEnabled()) return;
+
+        try {
+            List<NotificationPreference> preferences = notificationPreferenceRepository.findAll();
+
+            Map<String, NotificationPreference> loaded = new ConcurrentHashMap<>(preferences.size() * 2);
+            LocalDateTime watermark = null;
+            for (NotificationPreference preference : preferences) {
+                loaded.put(preference.token(), preference);
+                watermark = latest(watermark, preference.updatedAt());
+            }
+
+            snapshot = loaded;
+            lastUpdatedAt = watermark != null ? watermark : INITIAL_WATERMARK;
+
+            log.info("[FCM 수신 설정] 전체 적재 완료 - size: {}", loaded.size());
+        } catch (DataAccessException e) {
+            log.warn("[FCM 수신 설정] 전체 적재 실패, 기존 스냅샷 유지 - reason: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 적재 이후 변경된 수신 설정만 반영
+     * 같은 시각에 커밋된 변경을 놓치지 않도록 워터마크 시각을 포함(>=)하여 조회
+     * 최초 적재에 실패한 경우에도 INITIAL_WATERMARK 이후 변경분(= 전체)을 증분으로 반영
+     */
+    @Scheduled(
+            initialDelayString = "#{@notificationPreferenceProperties.refreshInterval}",
+            fixedDelayString = "#{@notificationPreferenceProperties.refreshInterval}"
+    )
+    public synchronized void refresh() {
+        if (!notificationPreferenceProperties.isEnabled()) return;
+
+        try {
+            List<NotificationPreference> changed =
+                    notificationPreferenceRepository.findAllUpdatedSince(lastUpdatedAt);
+
+            LocalDateTime watermark = lastUpdatedAt;
+            for (NotificationPreference preference : changed) {
+                snapshot.put(preference.token(), preference);
+                watermark = latest(watermark, preference.updatedAt());
+            }
+            lastUpdatedAt = watermark;
+        } catch (DataAccessException e) {
+            log.warn("[FCM 수신 설정] 증분 갱신 실패 - reason: {}", e.getMessage());
+        }
+    }
+
+    private LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        if (current == null) return candidate;
+        if (candidate == null) return current;
+        return candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -0,0 +1,44 @@
+package kr.co.yournews.notify.fcm.preference.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+
+/**
+ * 토큰 단위 알림 수신 설정 스냅샷
+ *
+ * @param token             : FCM 디바이스 토큰
+ * @param pushEnabled       : 푸시 수신 여부 (false 인 경우 전체 수신 거부)
+ * @param muteStartMinute   : 방해 금지 시작 (자정 기준 분, 미설정 시 -1)
+ * @param muteEndMinute     : 방해 금지 종료 (자정 기준 분, 미설정 시 -1)
+ * @param zoneId            : 방해 금지 시간 계산에 사용할 시간대 (미설정 시 null)
+ * @param mutedCategories   : 수신 거부한 소식 카테고리
+ * @param updatedAt         : 마지막 변경 시각 (증분 갱신 기준)
+ */
+public record NotificationPreference(
+        String token,
+        boolean pushEnabled,
+        int muteStartMinute,
+        int muteEndMinute,
+        ZoneId zoneId,
+        Set<String> mutedCategories,
+        LocalDateTime updatedAt
+) {
+    public static final int NO_MUTE = -1;
+
+    /**
+     * 현지 시각(자정 기준 분)이 방해 금지 시간에 포함되는지 여부
+     * 종료 시각이 시작 시각보다 이른 경우(ex. 23:00 ~ 07:00) 자정을 넘기는 구간으로 판단
+     */
+    public boolean isMutedAt(int localMinuteOfDay) {
+        if (muteStartMinute == NO_MUTE || muteEndMinute == NO_MUTE || muteStartMinute == muteEndMinute) {
+            return false;
+        }
+
+        if (muteStartMinute < muteEndMinute) {
+            return localMinuteOfDay >= muteStartMinute && localMinuteOfDay < muteEndMinute;
+        }
+
+        return localMinuteOfDay >= muteStartMinute || localMinuteOfDay < muteEndMinute;
+    }
+}
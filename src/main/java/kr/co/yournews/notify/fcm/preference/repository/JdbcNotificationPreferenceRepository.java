@@ -0,0 +1,81 @@
+package kr.co.yournews.notify.fcm.preference.repository;
+
+import kr.co.yournews.notify.fcm.preference.model.NotificationPreference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Time;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcNotificationPreferenceRepository implements NotificationPreferenceRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SELECT_PREFERENCE =
+            "SELECT token, push_enabled, mute_start, mute_end, time_zone, muted_categories, updated_at " +
+            "FROM fcm_token_preference";
+
+    private static final RowMapper<NotificationPreference> PREFERENCE_ROW_MAPPER = (rs, rowNum) ->
+            new NotificationPreference(
+                    rs.getString("token"),
+                    rs.getBoolean("push_enabled"),
+                    toMinuteOfDay(rs.getTime("mute_start")),
+                    toMinuteOfDay(rs.getTime("mute_end")),
+                    toZoneId(rs.getString("time_zone")),
+                    toCategories(rs.getString("muted_categories")),
+                    rs.getTimestamp("updated_at").toLocalDateTime()
+            );
+
+    @Override
+    public List<NotificationPreference> findAll() {
+        return jdbcTemplate.query(SELECT_PREFERENCE, PREFERENCE_ROW_MAPPER);
+    }
+
+    @Override
+    public List<NotificationPreference> findAllUpdatedSince(LocalDateTime updatedAt) {
+        return jdbcTemplate.query(
+                SELECT_PREFERENCE + " WHERE updated_at >= ?",
+                PREFERENCE_ROW_MAPPER,
+                updatedAt
+        );
+    }
+
+    private static int toMinuteOfDay(Time time) {
+        if (time == null) return NotificationPreference.NO_MUTE;
+
+        LocalTime localTime = time.toLocalTime();
+        return localTime.getHour() * 60 + localTime.getMinute();
+    }
+
+    private static ZoneId toZoneId(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) return null;
+
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            return null;    // 잘못된 시간대는 기본 시간대로 처리
+        }
+    }
+
+    /**
+     * 콤마(,)로 구분된 카테고리 문자열을 불변 Set으로 변환
+     */
+    private static Set<String> toCategories(String categories) {
+        if (categories == null || categories.isBlank()) return Set.of();
+
+        return Arrays.stream(categories.split(","))
+                .map(String::trim)
+                .filter(category -> !category.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
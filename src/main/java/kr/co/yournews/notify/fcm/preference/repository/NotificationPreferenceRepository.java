@@ -0,0 +1,12 @@
+package kr.co.yournews.notify.fcm.preference.repository;
+
+import kr.co.yournews.notify.fcm.preference.model.NotificationPreference;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationPreferenceRepository {
+    List<NotificationPreference> findAll();
+
+    List<NotificationPreference> findAllUpdatedSince(LocalDateTime updatedAt);
+}
@@ -0,0 +1,105 @@
+package kr.co.yournews.notify.fcm.preference.service;
+
+import kr.co.yournews.notify.config.properties.NotificationPreferenceProperties;
+import kr.co.yournews.notify.fcm.preference.cache.NotificationPreferenceCache;
+import kr.co.yournews.notify.fcm.preference.model.NotificationPreference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전송 전 수신자 설정(수신 거부, 카테고리 거부, 방해 금지 시간)을 확인하는 필터
+ * <p>
+ * 메시지마다 호출되므로 DB 조회 없이 캐시만 사용하며,
+ * 시간대 오프셋은 다음 전환 시각(서머타임 등)까지 재사용하여 조회 시 객체를 생성하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationPreferenceFilter {
+    private final NotificationPreferenceCache notificationPreferenceCache;
+    private final NotificationPreferenceProperties notificationPreferenceProperties;
+
+    private final Map<ZoneId, ZoneOffsetWindow> offsetWindows = new ConcurrentHashMap<>();
+
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    /**
+     * 수신자에게 알림을 전송해도 되는지 판단하는 메서드
+     *
+     * @param token     : 수신자의 FCM 디바이스 토큰
+     * @param category  : 소식 카테고리 (없으면 null)
+     * @param nowMillis : 현재 시각 (epoch millis)
+     * @return 전송 가능 여부 (설정이 없으면 true)
+     */
+    public boolean isDeliverable(String token, String category, long nowMillis) {
+        if (!notificationPreferenceProperties.isEnabled()) return true;
+
+        NotificationPreference preference = notificationPreferenceCache.get(token);
+        if (preference == null) return true;
+
+        if (!preference.pushEnabled()) return false;
+
+        if (category != null && preference.mutedCategories().contains(category)) return false;
+
+        if (preference.muteStartMinute() == NotificationPreference.NO_MUTE) return true;
+
+        ZoneId zoneId = preference.zoneId() != null
+                ? preference.zoneId()
+                : notificationPreferenceProperties.getDefaultZone();
+
+        return !preference.isMutedAt(localMinuteOfDay(zoneId, nowMillis));
+    }
+
+    /**
+     * 주어진 시간대 기준 현재 시각을 자정 기준 분으로 변환
+     */
+    private int localMinuteOfDay(ZoneId zoneId, long nowMillis) {
+        ZoneOffsetWindow window = offsetWindows.get(zoneId);
+        if (window == null || !window.contains(nowMillis)) {
+            window = ZoneOffsetWindow.of(zoneId, nowMillis);
+            offsetWindows.put(zoneId, window);
+        }
+
+        long localSeconds = Math.floorDiv(nowMillis, 1000L) + window.offsetSeconds;
+        return (int) (Math.floorMod(localSeconds, SECONDS_PER_DAY) / 60);
+    }
+
+    /**
+     * 시간대 오프셋과 해당 오프셋이 유효한 구간 [validFrom, validUntil)
+     */
+    private static final class ZoneOffsetWindow {
+        private final int offsetSeconds;
+        private final long validFrom;
+        private final long validUntil;
+
+        private ZoneOffsetWindow(int offsetSeconds, long validFrom, long validUntil) {
+            this.offsetSeconds = offsetSeconds;
+            this.validFrom = validFrom;
+            this.validUntil = validUntil;
+        }
+
+        private static ZoneOffsetWindow of(ZoneId zoneId, long nowMillis) {
+            Instant now = Instant.ofEpochMilli(nowMillis);
+            ZoneRules rules = zoneId.getRules();
+
+            ZoneOffsetTransition previous = rules.previousTransition(now);
+            ZoneOffsetTransition next = rules.nextTransition(now);
+
+            return new ZoneOffsetWindow(
+                    rules.getOffset(now).getTotalSeconds(),
+                    previous == null ? Long.MIN_VALUE : previous.getInstant().toEpochMilli(),
+                    next == null ? Long.MAX_VALUE : next.getInstant().toEpochMilli()
+            );
+        }
+
+        private boolean contains(long nowMillis) {
+            return nowMillis >= validFrom && nowMillis < validUntil;
+        }
+    }
+}
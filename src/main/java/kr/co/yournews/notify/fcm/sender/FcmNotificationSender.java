@@ -2,42 +2,89 @@ package kr.co.yournews.notify.fcm.sender;
 
 import com.google.firebase.messaging.ApnsConfig;
 import com.google.firebase.messaging.Aps;
-import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.Notification;
+import kr.co.yournews.notify.config.properties.FirebaseProperties;
+import kr.co.yournews.notify.fcm.app.FcmApp;
+import kr.co.yournews.notify.fcm.app.FcmAppRegistry;
 import kr.co.yournews.notify.fcm.sender.response.FcmSendResult;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.Objects;
 
 @Component
+@RequiredArgsConstructor
 public class FcmNotificationSender {
+    private final FcmAppRegistry fcmAppRegistry;
+    private final FirebaseProperties firebaseProperties;
+
+    public static final String UNKNOWN_APP = "UNKNOWN_APP";     // 등록되지 않은 앱
+    public static final String THROTTLED = "THROTTLED";         // 앱 전송 한도 초과 (로컬 판단)
+    public static final String INVALID_MESSAGE = "INVALID_MESSAGE"; // 메시지 구성 불가 (토큰/데이터 누락)
 
     /**
      * FCM 푸시 알림을 전송하고 결과를 반환하는 메서드
+     * 앱별 전송 슬롯을 얻지 못하면 FCM 호출 없이 throttled 결과로 반환 (재시도 횟수에 포함하지 않음)
+     * 등록되지 않은 앱, 토큰/데이터 누락은 재시도해도 같으므로 nonRetryable 결과로 반환 (즉시 DLQ)
+     * 메시지는 슬롯을 얻기 전에 구성하여, 구성 실패 시 슬롯이 반환되지 않는 일이 없도록 함
      *
+     * @param appName : 전송할 Firebase 앱 이름 (null이면 기본 앱)
      * @param token   : 수신자의 FCM 디바이스 토큰
      * @param title   : 알림 제목
      * @param content : 알림 내용
      * @return FCM 전송 결과 객체
      */
-    public FcmSendResult sendNotification(String token, String title, String content, Map<String, String> data) {
+    public FcmSendResult sendNotification(
+            String appName, String token, String title, String content, Map<String, String> data
+    ) {
+        FcmApp app = fcmAppRegistry.resolve(appName);
+        if (app == null) {
+            return FcmSendResult.nonRetryable(UNKNOWN_APP, "등록되지 않은 Firebase 앱: " + appName);
+        }
+
+        if (token == null || token.isBlank() || data == null || data.values().stream().anyMatch(Objects::isNull)) {
+            return FcmSendResult.nonRetryable(INVALID_MESSAGE, "토큰 또는 데이터 누락");
+        }
+
         Message message = buildMessage(token, title, content, data);
 
+        if (!app.tryAcquire(firebaseProperties.getAcquireTimeout())) {
+            return FcmSendResult.throttled(THROTTLED, "전송 한도 초과: " + app.getName());
+        }
+
         try {
-            String response = FirebaseMessaging.getInstance().send(message);
+            String response = app.getMessaging().send(message);
             return FcmSendResult.success(response);
         } catch (FirebaseMessagingException e) {
             MessagingErrorCode code = e.getMessagingErrorCode();
 
             if (code == MessagingErrorCode.UNREGISTERED || code == MessagingErrorCode.INVALID_ARGUMENT) {
-                return FcmSendResult.invalidToken(e.getMessage());
+                return FcmSendResult.invalidToken(code.name(), e.getMessage());
             }
 
-            return FcmSendResult.failure(e.getMessage());
+            // 할당량 소진: 해당 앱만 잠시 중단하여 다른 앱에 영향이 없도록 함
+            if (code == MessagingErrorCode.QUOTA_EXCEEDED) {
+                app.pause(firebaseProperties.getQuotaPause());
+            }
+
+            return FcmSendResult.failure(resolveErrorCode(e), e.getMessage());
+        } finally {
+            app.release();
+        }
+    }
+
+    /**
+     * 집계용 에러 코드 추출 (FCM 전용 코드가 없으면 플랫폼 공통 코드 사용)
+     */
+    private String resolveErrorCode(FirebaseMessagingException e) {
+        if (e.getMessagingErrorCode() != null) {
+            return e.getMessagingErrorCode().name();
         }
+        return e.getErrorCode() != null ? e.getErrorCode().name() : null;
     }
 
     /**
@@ -1,7 +1,11 @@
 package kr.co.yournews.notify.fcm.sender.exception;
 
+/**
+ * 재시도 큐로 보내기 위한 NACK 용도의 예외
+ * 실패 내용은 FcmEventRecorder가 집계하므로, 메시지마다 스택 트레이스를 만들지 않음
+ */
 public class FcmSendFailureException extends RuntimeException {
     public FcmSendFailureException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
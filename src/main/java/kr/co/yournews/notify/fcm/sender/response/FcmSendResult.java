@@ -5,22 +5,36 @@ package kr.co.yournews.notify.fcm.sender.response;
  *
  * @param success            : 전송 성공 여부
  * @param shouldRemoveToken  : 토큰 삭제 필요 여부 (UNREGISTERED, INVALID_ARGUMENT 등)
+ * @param throttled          : 로컬 전송 한도 초과 여부 (FCM 호출 없음, 재시도 횟수에 포함하지 않음)
+ * @param nonRetryable       : 재시도해도 같은 결과인 실패 여부 (재시도 없이 DLQ로 이동)
+ * @param errorCode          : 실패 시 FCM 에러 코드 (성공 시 null)
  * @param message            : 전송 결과에 대한 메시지 (성공/실패 이유 등)
  */
 public record FcmSendResult(
         boolean success,
         boolean shouldRemoveToken,
+        boolean throttled,
+        boolean nonRetryable,
+        String errorCode,
         String message
 ) {
     public static FcmSendResult success(String message) {
-        return new FcmSendResult(true, false, message);
+        return new FcmSendResult(true, false, false, false, null, message);
     }
 
-    public static FcmSendResult invalidToken(String message) {
-        return new FcmSendResult(false, true, message);
+    public static FcmSendResult invalidToken(String errorCode, String message) {
+        return new FcmSendResult(false, true, false, false, errorCode, message);
     }
 
-    public static FcmSendResult failure(String message) {
-        return new FcmSendResult(false, false, message);
+    public static FcmSendResult failure(String errorCode, String message) {
+        return new FcmSendResult(false, false, false, false, errorCode, message);
+    }
+
+    public static FcmSendResult throttled(String errorCode, String message) {
+        return new FcmSendResult(false, false, true, false, errorCode, message);
+    }
+
+    public static FcmSendResult nonRetryable(String errorCode, String message) {
+        return new FcmSendResult(false, false, false, true, errorCode, message);
     }
 }
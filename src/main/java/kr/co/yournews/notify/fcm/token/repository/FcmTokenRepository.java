@@ -1,5 +1,9 @@
 package kr.co.yournews.notify.fcm.token.repository;
 
+import java.util.List;
+
 public interface FcmTokenRepository {
     void deleteByToken(String token);
+
+    void deleteAllByTokens(List<String> tokens);
 }
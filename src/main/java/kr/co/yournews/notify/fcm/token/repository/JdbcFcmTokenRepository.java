@@ -1,16 +1,34 @@
 package kr.co.yournews.notify.fcm.token.repository;
 
-import lombok.RequiredArgsConstructor;
+import kr.co.yournews.notify.config.properties.SpoolProperties;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-@RequiredArgsConstructor
 public class JdbcFcmTokenRepository implements FcmTokenRepository {
     private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate batchJdbcTemplate;   // 일괄 삭제 전용 (쿼리 타임아웃 적용)
+
+    public JdbcFcmTokenRepository(JdbcTemplate jdbcTemplate, SpoolProperties spoolProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.batchJdbcTemplate.setQueryTimeout(spoolProperties.getQueryTimeout());
+    }
 
     @Override
     public void deleteByToken(String token) {
         jdbcTemplate.update("DELETE FROM fcm_token WHERE token = ?", token);
     }
+
+    @Override
+    public void deleteAllByTokens(List<String> tokens) {
+        batchJdbcTemplate.batchUpdate(
+                "DELETE FROM fcm_token WHERE token = ?",
+                tokens,
+                tokens.size(),
+                (ps, token) -> ps.setString(1, token)
+        );
+    }
 }
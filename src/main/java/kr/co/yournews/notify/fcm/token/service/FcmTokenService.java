@@ -1,18 +1,39 @@
 package kr.co.yournews.notify.fcm.token.service;
 
+import kr.co.yournews.notify.fcm.log.TokenMasker;
 import kr.co.yournews.notify.fcm.token.repository.FcmTokenRepository;
+import kr.co.yournews.notify.spool.MappedSpool;
+import kr.co.yournews.notify.spool.model.SpoolRecordType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmTokenService {
     private final FcmTokenRepository fcmTokenRepository;
+    private final MappedSpool mappedSpool;
 
     public void removeByToken(String token) {
         fcmTokenRepository.deleteByToken(token);
-        log.info("[FCM 토큰 삭제 완료] token : {}", token);
+        log.debug("[FCM 토큰 삭제 완료] token : {}", TokenMasker.mask(token));
+    }
+
+    /**
+     * 토큰 삭제를 로컬 스풀에 기록 (DB 반영은 SpoolDrainer가 일괄 처리)
+     * 스풀에 기록할 수 없으면 즉시 삭제
+     */
+    public void deferRemoval(String token) {
+        if (mappedSpool.append(SpoolRecordType.TOKEN_REMOVAL, token)) return;
+
+        removeByToken(token);
+    }
+
+    public void removeAllByTokens(List<String> tokens) {
+        fcmTokenRepository.deleteAllByTokens(tokens);
+        log.info("[FCM 토큰 일괄 삭제 완료] count : {}", tokens.size());
     }
 }
@@ -0,0 +1,243 @@
+package kr.co.yournews.notify.schedule.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.yournews.notify.config.properties.DeliveryScheduleProperties;
+import kr.co.yournews.notify.config.properties.RabbitMqProperties;
+import kr.co.yournews.notify.consumer.dto.FcmMessageDto;
+import kr.co.yournews.notify.schedule.wheel.HierarchicalTimingWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 전송 메시지를 전송 시각까지 보류하는 스케줄러
+ * <p>
+ * 1. 대기 시간이 수 초 이내(inMemoryHorizon 이하)면 메모리의 타이밍 휠에 보류
+ * 2. 그 외에는 모두 브로커 지연 큐(TTL 큐)로 보냄 (휠이 가득 찬 경우 포함)
+ *    - 남은 시간 이하의 가장 긴 지연 큐를 선택하고, 만료 후 메인 큐로 돌아오면 다시 판단
+ * 3. 전송 시각이 되면 메인 큐로 재발행 → 재시도/DLQ/수신 설정 필터를 동일하게 적용
+ * <p>
+ * 휠에 보류된 메시지는 이미 ACK 되어 브로커에 남아 있지 않다.
+ * 정상 종료 시에는 메인 큐로 되돌리지만, 비정상 종료(crash, OOM, kill -9) 시에는
+ * 최대 maxInMemory 건, 최대 inMemoryHorizon 동안 보류 중이던 메시지가 유실된다.
+ * 유실 구간을 줄이기 위해 메모리 보류는 수 초 단위로만 사용하고 나머지는 브로커가 보관한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryScheduler {
+    private final DeliveryTimeResolver deliveryTimeResolver;
+    private final DeliveryScheduleProperties deliveryScheduleProperties;
+    private final RabbitMqProperties rabbitMqProperties;
+    private final RabbitTemplate rabbitTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private HierarchicalTimingWheel<FcmMessageDto> wheel;
+    private ScheduledExecutorService ticker;
+    private List<Long> brokerDelays;
+
+    private static final long REPUBLISH_BACKOFF_MS = 1_000L;    // 재발행 실패 시 재시도 간격
+    private static final long SHUTDOWN_WAIT_MS = 5_000L;        // 종료 시 진행 중인 틱 대기 시간
+
+    @PostConstruct
+    public void start() {
+        long tickMs = deliveryScheduleProperties.getTickMs();
+        wheel = new HierarchicalTimingWheel<>(
+                tickMs,
+                deliveryScheduleProperties.getWheelSize(),
+                deliveryScheduleProperties.getWheelLevels(),
+                System.currentTimeMillis()
+        );
+
+        brokerDelays = deliveryScheduleProperties.getBrokerDelays().stream().sorted().toList();
+        validate(tickMs);
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fcm-delivery-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 예약 전송 메시지를 전송 시각까지 보류하는 메서드
+     *
+     * @param message   : FCM 전송 요청 메시지
+     * @param nowMillis : 현재 시각 (epoch millis)
+     * @return 보류 여부 (false면 호출자가 즉시 전송)
+     */
+    public boolean deferIfScheduled(FcmMessageDto message, long nowMillis) {
+        if (!message.requiresScheduling()) return false;
+
+        long deliverAt = deliveryTimeResolver.resolve(message, nowMillis);
+        long remaining = deliverAt - nowMillis;
+        if (remaining < deliveryScheduleProperties.getTickMs()) return false;
+
+        FcmMessageDto resolved = message.withDeliverAt(deliverAt);
+
+        if (remaining <= deliveryScheduleProperties.getInMemoryHorizon() && holdInMemory(resolved, deliverAt)) {
+            return true;
+        }
+
+        delayOnBroker(resolved, remaining);
+        return true;
+    }
+
+    /**
+     * 메모리에 보류 중인 메시지 수
+     */
+    public int inMemorySize() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 메모리에 보류 중인 메시지를 메인 큐로 되돌림
+     * 리스너 컨테이너가 먼저 중지되므로 다른 인스턴스 또는 재기동 후 다시 보류된다.
+     * 진행 중인 틱이 재발행에 실패한 메시지를 휠에 재등록할 수 있으므로, 틱 종료를 기다린 뒤 비운다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        try {
+            if (!ticker.awaitTermination(SHUTDOWN_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                log.warn("[FCM 예약] 종료 전 틱이 끝나지 않음, 진행 중인 메시지는 유실될 수 있음");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<FcmMessageDto> pending = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.drainAll(pending::add);
+        } finally {
+            lock.unlock();
+        }
+
+        int failed = 0;
+        for (FcmMessageDto message : pending) {
+            try {
+                release(message);
+            } catch (AmqpException e) {
+                failed++;
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            log.info("[FCM 예약] 종료 전 보류 메시지 반환 - count: {}, failed: {}", pending.size(), failed);
+        }
+    }
+
+    /**
+     * 타이밍 휠에 보류 (휠이 가득 찬 경우 false)
+     * 틱이 진행되는 사이 이미 만료된 경우 바로 메인 큐로 재발행
+     */
+    private boolean holdInMemory(FcmMessageDto message, long deliverAt) {
+        boolean added;
+        lock.lock();
+        try {
+            if (wheel.size() >= deliveryScheduleProperties.getMaxInMemory()) return false;
+            added = wheel.add(deliverAt, message);
+        } finally {
+            lock.unlock();
+        }
+
+        if (!added) {
+            release(message);
+        }
+        return true;
+    }
+
+    /**
+     * 남은 시간 이하의 가장 긴 지연 큐로 전송
+     * 남은 시간이 가장 짧은 지연 큐보다 짧으면(휠이 가득 찬 경우) 가장 짧은 지연 큐 사용
+     */
+    private void delayOnBroker(FcmMessageDto message, long remaining) {
+        long delay = brokerDelays.get(0);
+        for (long candidate : brokerDelays) {
+            if (candidate > remaining) break;
+            delay = candidate;
+        }
+
+        rabbitTemplate.convertAndSend(
+                rabbitMqProperties.getDelayExchangeName(),
+                rabbitMqProperties.getRoutingKey() + ".delay." + delay,
+                message
+        );
+    }
+
+    /**
+     * 틱마다 만료된 메시지를 꺼내 메인 큐로 재발행
+     * 재발행에 실패하면 잠시 후 다시 시도하도록 휠에 재등록
+     * (예외가 전파되면 이후 틱이 실행되지 않으므로 모두 처리)
+     */
+    private void tick() {
+        List<FcmMessageDto> expired = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        lock.lock();
+        try {
+            wheel.advance(now, expired::add);
+        } finally {
+            lock.unlock();
+        }
+
+        int failed = 0;
+        String reason = null;
+        for (FcmMessageDto message : expired) {
+            try {
+                release(message);
+            } catch (RuntimeException e) {
+                failed++;
+                reason = e.getMessage();
+                lock.lock();
+                try {
+                    wheel.add(now + REPUBLISH_BACKOFF_MS, message);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        if (failed > 0) {
+            log.warn("[FCM 예약] 메인 큐 재발행 실패, 재시도 예정 - count: {}, reason: {}", failed, reason);
+        }
+    }
+
+    private void release(FcmMessageDto message) {
+        rabbitTemplate.convertAndSend(
+                rabbitMqProperties.getExchangeName(),
+                rabbitMqProperties.getRoutingKey(),
+                message
+        );
+    }
+
+    private void validate(long tickMs) {
+        if (brokerDelays.isEmpty()) {
+            throw new IllegalStateException("delivery.schedule.broker-delays must not be empty");
+        }
+        if (deliveryScheduleProperties.getInMemoryHorizon() < brokerDelays.get(0)) {
+            throw new IllegalStateException("delivery.schedule.in-memory-horizon must cover the shortest broker delay");
+        }
+        if (deliveryScheduleProperties.getInMemoryHorizon() + tickMs * 2 > wheel.horizonMillis()) {
+            throw new IllegalStateException("delivery.schedule.in-memory-horizon exceeds timing wheel horizon: "
+                    + wheel.horizonMillis() + "ms");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package kr.co.yournews.notify.schedule.service;
+
+import kr.co.yournews.notify.config.properties.NotificationPreferenceProperties;
+import kr.co.yournews.notify.consumer.dto.FcmMessageDto;
+import kr.co.yournews.notify.fcm.preference.cache.NotificationPreferenceCache;
+import kr.co.yournews.notify.fcm.preference.model.NotificationPreference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 메시지의 실제 전송 시각을 계산하는 클래스
+ * <p>
+ * 1. deliverAt이 있으면 해당 시각을 기준으로, 없으면 현재 시각을 기준으로 함
+ * 2. localDeliveryTime이 있으면 수신자 시간대 기준 가장 가까운 다음 해당 시각으로 미룸
+ * 3. smearMinutes가 있으면 토큰 해시로 구간 내 고정 오프셋을 더해 전송 시각을 분산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryTimeResolver {
+    private final NotificationPreferenceCache notificationPreferenceCache;
+    private final NotificationPreferenceProperties notificationPreferenceProperties;
+
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    /**
+     * 전송 시각 계산 메서드
+     *
+     * @param message   : FCM 전송 요청 메시지
+     * @param nowMillis : 현재 시각 (epoch millis)
+     * @return 전송 시각 (epoch millis)
+     */
+    public long resolve(FcmMessageDto message, long nowMillis) {
+        long deliverAt = message.deliverAt() != null ? message.deliverAt() : nowMillis;
+
+        if (message.localDeliveryTime() != null) {
+            deliverAt = nextLocalTime(message, deliverAt);
+        }
+
+        Integer smearMinutes = message.smearMinutes();
+        if (smearMinutes != null && smearMinutes > 0) {
+            deliverAt += Math.floorMod(message.token().hashCode(), smearMinutes * MILLIS_PER_MINUTE);
+        }
+
+        return deliverAt;
+    }
+
+    /**
+     * 기준 시각 이후 수신자 현지 시각으로 가장 가까운 localDeliveryTime
+     * 형식이 잘못된 경우 기준 시각을 그대로 사용
+     */
+    private long nextLocalTime(FcmMessageDto message, long baseMillis) {
+        LocalTime localTime;
+        try {
+            localTime = LocalTime.parse(message.localDeliveryTime());
+        } catch (DateTimeParseException e) {
+            log.warn("[FCM 예약] 잘못된 현지 전송 시각 무시 - localDeliveryTime: {}", message.localDeliveryTime());
+            return baseMillis;
+        }
+
+        ZoneId zoneId = resolveZone(message.token());
+        ZonedDateTime base = Instant.ofEpochMilli(baseMillis).atZone(zoneId);
+
+        LocalDate date = base.toLocalDate();
+        ZonedDateTime candidate = date.atTime(localTime).atZone(zoneId);
+        if (candidate.isBefore(base)) {
+            candidate = date.plusDays(1).atTime(localTime).atZone(zoneId);
+        }
+
+        return candidate.toInstant().toEpochMilli();
+    }
+
+    private ZoneId resolveZone(String token) {
+        NotificationPreference preference = notificationPreferenceCache.get(token);
+        if (preference != null && preference.zoneId() != null) {
+            return preference.zoneId();
+        }
+        return notificationPreferenceProperties.getDefaultZone();
+    }
+}
@@ -0,0 +1,176 @@
+package kr.co.yournews.notify.schedule.wheel;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ * <p>
+ * 단계(level) L의 슬롯 하나는 tickMs * wheelSize^L 구간을 담당한다.
+ * 등록 시 남은 틱 수에 맞는 단계의 슬롯에 넣고, 상위 단계 슬롯의 구간이 시작되면
+ * 해당 슬롯의 항목을 하위 단계로 다시 배치(cascade)한다.
+ * 등록/만료 모두 O(1)이며, 만료 시각보다 일찍 꺼내지 않는다.
+ * <p>
+ * 스레드 안전하지 않으므로 호출자가 동기화해야 한다.
+ *
+ * @param <T> : 보류할 항목 타입
+ */
+public class HierarchicalTimingWheel<T> {
+    private final long tickMs;
+    private final int wheelBits;
+    private final long wheelMask;
+    private final int levels;
+    private final ArrayDeque<Entry<T>>[][] buckets;
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levels, long startMillis) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("tickMs must be positive: " + tickMs);
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+
+        int wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        if (levels < 1 || (long) wheelBits * levels >= 48) {
+            throw new IllegalArgumentException("invalid wheel levels: " + levels);
+        }
+
+        this.tickMs = tickMs;
+        this.wheelBits = wheelBits;
+        this.wheelMask = wheelSize - 1;
+        this.levels = levels;
+        this.buckets = new ArrayDeque[levels][wheelSize];
+        this.currentTick = startMillis / tickMs;
+    }
+
+    /**
+     * 휠이 보류할 수 있는 최대 대기 시간 (ms)
+     */
+    public long horizonMillis() {
+        return tickMs * (1L << (wheelBits * levels));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 만료 시각에 항목을 등록
+     *
+     * @param dueMillis : 만료 시각 (epoch millis)
+     * @param item      : 보류할 항목
+     * @return 등록 여부 (이미 만료된 경우 false → 호출자가 즉시 처리)
+     * @throws IllegalArgumentException 휠이 보류할 수 있는 시간을 넘는 경우
+     */
+    public boolean add(long dueMillis, T item) {
+        long dueTick = Math.floorDiv(dueMillis + tickMs - 1, tickMs);   // 일찍 꺼내지 않도록 올림
+        if (dueTick <= currentTick) {
+            return false;
+        }
+
+        place(new Entry<>(dueTick, item), currentTick);
+        size++;
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 틱을 진행하며 만료된 항목을 전달
+     *
+     * @param nowMillis : 현재 시각 (epoch millis)
+     * @param expired   : 만료된 항목을 받을 콜백
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMs;
+
+        while (currentTick < targetTick) {
+            long tick = currentTick + 1;
+            cascade(tick);
+
+            ArrayDeque<Entry<T>> bucket = buckets[0][(int) (tick & wheelMask)];
+            if (bucket != null && !bucket.isEmpty()) {
+                int count = bucket.size();
+                for (int i = 0; i < count; i++) {
+                    Entry<T> entry = bucket.poll();
+                    if (entry.dueTick <= tick) {
+                        size--;
+                        expired.accept(entry.item);
+                    } else {
+                        place(entry, tick);
+                    }
+                }
+            }
+
+            currentTick = tick;
+        }
+    }
+
+    /**
+     * 보류 중인 모든 항목을 꺼내 전달 (종료 시 사용)
+     */
+    public void drainAll(Consumer<T> drained) {
+        for (ArrayDeque<Entry<T>>[] level : buckets) {
+            for (ArrayDeque<Entry<T>> bucket : level) {
+                if (bucket == null) continue;
+
+                Entry<T> entry;
+                while ((entry = bucket.poll()) != null) {
+                    drained.accept(entry.item);
+                }
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * 상위 단계 슬롯의 구간이 시작되는 틱이면 해당 슬롯의 항목을 하위 단계로 재배치
+     * 재배치된 항목이 이번 틱에 처리될 슬롯으로 내려올 수 있도록 상위 단계부터 처리
+     */
+    private void cascade(long tick) {
+        int highest = 0;
+        while (highest + 1 < levels && (tick & ((1L << (wheelBits * (highest + 1))) - 1)) == 0) {
+            highest++;
+        }
+
+        for (int level = highest; level >= 1; level--) {
+            int slot = (int) ((tick >>> (wheelBits * level)) & wheelMask);
+            ArrayDeque<Entry<T>> bucket = buckets[level][slot];
+            if (bucket == null || bucket.isEmpty()) continue;
+
+            int count = bucket.size();
+            for (int i = 0; i < count; i++) {
+                place(bucket.poll(), tick);
+            }
+        }
+    }
+
+    /**
+     * 기준 틱 대비 남은 틱 수로 단계를 고르고, 만료 틱으로 슬롯을 결정
+     */
+    private void place(Entry<T> entry, long referenceTick) {
+        long delta = entry.dueTick - referenceTick;
+
+        int level = 0;
+        while (level < levels && delta >= (1L << (wheelBits * (level + 1)))) {
+            level++;
+        }
+        if (level == levels) {
+            throw new IllegalArgumentException(
+                    "due time exceeds wheel horizon: " + horizonMillis() + "ms");
+        }
+
+        int slot = (int) ((entry.dueTick >>> (wheelBits * level)) & wheelMask);
+        ArrayDeque<Entry<T>> bucket = buckets[level][slot];
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            buckets[level][slot] = bucket;
+        }
+        bucket.add(entry);
+    }
+
+    private record Entry<T>(long dueTick, T item) {
+    }
+}
@@ -0,0 +1,373 @@
+package kr.co.yournews.notify.spool;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.yournews.notify.config.properties.SpoolProperties;
+import kr.co.yournews.notify.spool.model.SpoolRecord;
+import kr.co.yournews.notify.spool.model.SpoolRecordType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 매핑 파일 기반의 추가 전용 로컬 스풀 (Write-Ahead Log)
+ * <p>
+ * 1. 리스너 스레드는 기록을 메모리 매핑된 세그먼트 파일에 추가만 함 (DB 대기 없음)
+ * 2. SpoolDrainer가 체크포인트 이후 기록을 읽어 DB에 일괄 반영한 뒤 체크포인트를 갱신
+ * 3. 재기동 시 체크포인트 이후 기록을 다시 읽어 반영 (최소 1회 반영, 반영 작업은 멱등해야 함)
+ * <p>
+ * 기록 형식: [length:int][type:byte][payload:length bytes][crc32:int]
+ * length를 마지막에 기록하므로, 기록 중 프로세스가 종료되면 해당 기록은 없는 것으로 간주된다.
+ * 쓰기는 여러 스레드에서 가능하고, 읽기/체크포인트는 단일 스레드(SpoolDrainer)에서만 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MappedSpool {
+    private final SpoolProperties spoolProperties;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES;     // length + type
+    private static final int TRAILER_SIZE = Integer.BYTES;                 // crc32
+
+    private Path directory;
+    private int segmentSize;
+    private volatile boolean open;
+
+    // 쓰기 상태 (this로 동기화)
+    private final CRC32 writeCrc = new CRC32();
+    private long writeSegment;
+    private MappedByteBuffer writeBuffer;
+
+    // 기록이 끝난 위치: (세그먼트 번호 << 32) | 오프셋
+    private volatile long committed;
+
+    // 읽기 상태 (SpoolDrainer 스레드 전용)
+    private final CRC32 readCrc = new CRC32();
+    private final Map<Long, MappedByteBuffer> readBuffers = new HashMap<>();
+    private long readSegment;
+    private int readOffset;
+    private volatile long checkpointSegment;
+    private int checkpointOffset;
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!spoolProperties.isEnabled()) return;
+
+        directory = Paths.get(spoolProperties.getDirectory());
+        segmentSize = spoolProperties.getSegmentSize();
+        Files.createDirectories(directory);
+
+        List<Long> segments = listSegments();
+        long[] checkpoint = readCheckpoint();
+
+        if (segments.isEmpty()) {
+            writeSegment = 1L;
+            checkpoint = new long[]{1L, 0L};
+        } else {
+            long first = segments.get(0);
+            writeSegment = segments.get(segments.size() - 1);
+
+            if (checkpoint == null || checkpoint[0] < first) {
+                checkpoint = new long[]{first, 0L};
+            }
+            for (long segment : segments) {
+                if (segment < checkpoint[0]) {
+                    Files.deleteIfExists(segmentPath(segment));
+                }
+            }
+        }
+
+        writeBuffer = map(writeSegment, true);
+        writeBuffer.position(scanEnd(writeBuffer));
+        committed = pack(writeSegment, writeBuffer.position());
+
+        // 체크포인트가 기록 끝을 넘는 경우(세그먼트 수동 삭제 등) 기록 끝에서 다시 시작
+        if (checkpoint[0] > writeSegment
+                || (checkpoint[0] == writeSegment && checkpoint[1] > writeBuffer.position())) {
+            checkpoint = new long[]{writeSegment, writeBuffer.position()};
+        }
+
+        checkpointSegment = readSegment = checkpoint[0];
+        checkpointOffset = readOffset = (int) checkpoint[1];
+        open = true;
+
+        if (readSegment < writeSegment || readOffset < writeBuffer.position()) {
+            log.info("[스풀] 미반영 기록 복구 - segment: {}, offset: {}", readSegment, readOffset);
+        }
+    }
+
+    /**
+     * 기록 추가 (리스너 스레드에서 호출)
+     *
+     * @param type    : 기록 종류
+     * @param payload : 기록 내용
+     * @return 기록 여부 (스풀 비활성화, 미반영 세그먼트 한도 초과, 파일 오류 시 false → 호출자가 직접 처리)
+     */
+    public synchronized boolean append(SpoolRecordType type, String payload) {
+        if (!open) return false;
+
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        int size = HEADER_SIZE + bytes.length + TRAILER_SIZE;
+        if (size > segmentSize) return false;
+
+        if (writeBuffer.remaining() < size && !roll()) {
+            return false;
+        }
+
+        int start = writeBuffer.position();
+
+        writeCrc.reset();
+        writeCrc.update(type.getCode());
+        writeCrc.update(bytes);
+
+        writeBuffer.position(start + Integer.BYTES);
+        writeBuffer.put(type.getCode());
+        writeBuffer.put(bytes);
+        writeBuffer.putInt((int) writeCrc.getValue());
+        writeBuffer.putInt(start, bytes.length);
+
+        committed = pack(writeSegment, writeBuffer.position());
+        return true;
+    }
+
+    /**
+     * 체크포인트 이후 아직 읽지 않은 기록을 최대 maxRecords 건 읽음
+     * acknowledge() 전까지 체크포인트는 그대로이며, rewind()로 다시 읽을 수 있음
+     */
+    public List<SpoolRecord> read(int maxRecords) {
+        List<SpoolRecord> records = new ArrayList<>();
+        if (!open) return records;
+
+        while (records.size() < maxRecords) {
+            long position = committed;
+            long committedSegment = position >>> 32;
+            int committedOffset = (int) position;
+
+            if (readSegment > committedSegment
+                    || (readSegment == committedSegment && readOffset >= committedOffset)) {
+                break;
+            }
+
+            ByteBuffer buffer = readBuffer(readSegment);
+            int length = readOffset + HEADER_SIZE + TRAILER_SIZE <= buffer.limit()
+                    ? buffer.getInt(readOffset)
+                    : 0;
+
+            if (length <= 0 || !verify(buffer, readOffset, length, readCrc)) {
+                if (length > 0) {
+                    log.error("[스풀] 손상된 기록 건너뜀 - segment: {}, offset: {}", readSegment, readOffset);
+                }
+                if (readSegment < committedSegment) {
+                    readSegment++;
+                    readOffset = 0;
+                    continue;
+                }
+                readOffset = committedOffset;
+                break;
+            }
+
+            byte[] bytes = new byte[length];
+            buffer.get(readOffset + HEADER_SIZE, bytes);
+            records.add(new SpoolRecord(
+                    SpoolRecordType.of(buffer.get(readOffset + Integer.BYTES)),
+                    new String(bytes, StandardCharsets.UTF_8)
+            ));
+
+            readOffset += HEADER_SIZE + length + TRAILER_SIZE;
+        }
+
+        return records;
+    }
+
+    /**
+     * 읽은 위치까지 반영 완료로 체크포인트 저장 후, 모두 반영된 세그먼트 삭제
+     */
+    public void acknowledge() {
+        if (readSegment == checkpointSegment && readOffset == checkpointOffset) return;
+
+        try {
+            writeCheckpoint(readSegment, readOffset);
+
+            long previous = checkpointSegment;
+            checkpointSegment = readSegment;
+            checkpointOffset = readOffset;
+
+            for (long segment = previous; segment < readSegment; segment++) {
+                readBuffers.remove(segment);
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 반영 실패 시 읽기 위치를 체크포인트로 되돌림
+     */
+    public void rewind() {
+        readSegment = checkpointSegment;
+        readOffset = checkpointOffset;
+    }
+
+    /**
+     * 기록된 내용을 디스크에 동기화 (프로세스 종료는 페이지 캐시로 보호되며, OS 장애 대비용)
+     */
+    public void force() {
+        MappedByteBuffer buffer;
+        synchronized (this) {
+            if (!open) return;
+            buffer = writeBuffer;
+        }
+        buffer.force();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (!open) return;
+
+        writeBuffer.force();
+        open = false;
+    }
+
+    /**
+     * 다음 세그먼트로 전환 (미반영 세그먼트가 한도에 도달하면 false)
+     */
+    private boolean roll() {
+        if (writeSegment + 1 - checkpointSegment >= spoolProperties.getMaxSegments()) {
+            return false;
+        }
+
+        try {
+            MappedByteBuffer next = map(writeSegment + 1, true);
+            writeBuffer.force();
+
+            writeSegment++;
+            writeBuffer = next;
+            committed = pack(writeSegment, 0);
+            return true;
+        } catch (IOException e) {
+            log.error("[스풀] 세그먼트 생성 실패 - reason: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 세그먼트에서 유효한 마지막 기록의 끝 위치 탐색 (복구 시 사용)
+     */
+    private int scanEnd(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        int offset = 0;
+
+        while (offset + HEADER_SIZE + TRAILER_SIZE <= buffer.limit()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || !verify(buffer, offset, length, crc)) break;
+            offset += HEADER_SIZE + length + TRAILER_SIZE;
+        }
+
+        return offset;
+    }
+
+    private boolean verify(ByteBuffer buffer, int offset, int length, CRC32 crc) {
+        int end = offset + HEADER_SIZE + length;
+        if (end < 0 || end + TRAILER_SIZE > buffer.limit()) return false;
+
+        crc.reset();
+        crc.update(buffer.get(offset + Integer.BYTES));
+        crc.update(buffer.slice(offset + HEADER_SIZE, length));
+        return (int) crc.getValue() == buffer.getInt(end);
+    }
+
+    private ByteBuffer readBuffer(long segment) {
+        MappedByteBuffer buffer = readBuffers.get(segment);
+        if (buffer == null) {
+            try {
+                buffer = map(segment, false);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            readBuffers.put(segment, buffer);
+        }
+        return buffer;
+    }
+
+    private MappedByteBuffer map(long segment, boolean write) throws IOException {
+        Path path = segmentPath(segment);
+
+        if (write) {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private long[] readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT);
+        if (!Files.exists(path)) return null;
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < Long.BYTES * 2) return null;
+        return new long[]{buffer.getLong(), buffer.getLong()};
+    }
+
+    /**
+     * 임시 파일에 기록 후 교체하여, 중간에 종료되어도 이전 체크포인트가 유지되도록 함
+     */
+    private void writeCheckpoint(long segment, int offset) throws IOException {
+        Path temp = directory.resolve(CHECKPOINT + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2).putLong(segment).putLong(offset).flip();
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(buffer);
+            channel.force(true);
+        }
+
+        Files.move(temp, directory.resolve(CHECKPOINT),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long pack(long segment, int offset) {
+        return (segment << 32) | (offset & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,13 @@
+package kr.co.yournews.notify.spool.model;
+
+/**
+ * 스풀에서 읽은 기록
+ *
+ * @param type    : 기록 종류 (알 수 없는 종류면 null)
+ * @param payload : 기록 내용 (ex. 삭제할 토큰)
+ */
+public record SpoolRecord(
+        SpoolRecordType type,
+        String payload
+) {
+}
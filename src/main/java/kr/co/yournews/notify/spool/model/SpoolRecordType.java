@@ -0,0 +1,22 @@
+package kr.co.yournews.notify.spool.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스풀 기록 종류 (파일에는 code 1byte로 저장)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SpoolRecordType {
+    TOKEN_REMOVAL((byte) 1);
+
+    private final byte code;
+
+    public static SpoolRecordType of(byte code) {
+        for (SpoolRecordType type : values()) {
+            if (type.code == code) return type;
+        }
+        return null;
+    }
+}
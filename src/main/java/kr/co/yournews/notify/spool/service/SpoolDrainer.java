@@ -0,0 +1,131 @@
+package kr.co.yournews.notify.spool.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.co.yournews.notify.config.properties.SpoolProperties;
+import kr.co.yournews.notify.fcm.token.service.FcmTokenService;
+import kr.co.yournews.notify.spool.MappedSpool;
+import kr.co.yournews.notify.spool.model.SpoolRecord;
+import kr.co.yournews.notify.spool.model.SpoolRecordType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스풀에 쌓인 기록을 주기적으로 DB에 일괄 반영하는 서비스
+ * <p>
+ * DB 반영에 실패하면 체크포인트를 유지한 채 다음 주기에 다시 시도하므로,
+ * DB 장애가 리스너 스레드(FCM 전송 처리량)에 영향을 주지 않는다.
+ * <p>
+ * DB가 느리거나 장애일 때 한 번의 반영이 오래 걸릴 수 있으므로
+ * 공용 스케줄러(집계 로그, 수신 설정 갱신)와 분리된 전용 스레드에서 실행하고,
+ * 한 주기에 maxBatchesPerRun 배치까지만 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpoolDrainer {
+    private final MappedSpool mappedSpool;
+    private final FcmTokenService fcmTokenService;
+    private final SpoolProperties spoolProperties;
+
+    private ScheduledExecutorService drainer;
+
+    private static final long SHUTDOWN_WAIT_MS = 5_000L;   // 종료 시 진행 중인 반영 대기 시간
+
+    @PostConstruct
+    public void start() {
+        if (!spoolProperties.isEnabled()) return;
+
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spool-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long interval = spoolProperties.getDrainInterval();
+        drainer.scheduleWithFixedDelay(this::drainSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 체크포인트 이후 기록을 최대 maxBatchesPerRun 배치까지 DB에 반영
+     *
+     * @return 반영한 배치 수
+     */
+    public synchronized int drain() {
+        if (!spoolProperties.isEnabled()) return 0;
+
+        mappedSpool.force();
+
+        int batches = 0;
+        while (batches < spoolProperties.getMaxBatchesPerRun()) {
+            List<SpoolRecord> records = mappedSpool.read(spoolProperties.getBatchSize());
+            if (records.isEmpty()) break;
+
+            try {
+                apply(records);
+                mappedSpool.acknowledge();
+                batches++;
+            } catch (RuntimeException e) {
+                mappedSpool.rewind();
+                log.warn("[스풀] DB 반영 실패, 다음 주기에 재시도 - count: {}, reason: {}",
+                        records.size(), e.getMessage());
+                break;
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * 종료 전 진행 중인 반영을 기다린 뒤 남은 기록 반영 시도 (실패해도 재기동 시 복구됨)
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        if (drainer == null) return;
+
+        drainer.shutdown();
+        try {
+            if (!drainer.awaitTermination(SHUTDOWN_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                log.warn("[스풀] 종료 전 반영이 끝나지 않음, 재기동 후 이어서 반영");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        drain();
+    }
+
+    /**
+     * 예외가 전파되면 이후 주기가 실행되지 않으므로 모두 처리
+     */
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("[스풀] 반영 주기 실패 - reason: {}", e.getMessage());
+        }
+    }
+
+    private void apply(List<SpoolRecord> records) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (SpoolRecord record : records) {
+            if (record.type() == SpoolRecordType.TOKEN_REMOVAL) {
+                tokens.add(record.payload());
+            }
+        }
+
+        if (!tokens.isEmpty()) {
+            fcmTokenService.removeAllByTokens(new ArrayList<>(tokens));
+        }
+    }
+}
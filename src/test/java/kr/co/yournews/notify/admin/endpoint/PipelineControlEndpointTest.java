@@ -0,0 +1,33 @@
+package kr.co.yournews.notify.admin.endpoint;
+
+import kr.co.yournews.notify.admin.service.PipelineControlService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PipelineControlEndpointTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(PipelineControlService.class, () -> mock(PipelineControlService.class))
+            .withUserConfiguration(PipelineEndpoint.class, PipelineControlEndpoint.class);
+
+    @Test
+    @DisplayName("기본 설정 ⇒ 상태 조회만 등록, 설정 변경 엔드포인트 미등록")
+    void writeDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(PipelineEndpoint.class);
+            assertThat(context).doesNotHaveBean(PipelineControlEndpoint.class);
+        });
+    }
+
+    @Test
+    @DisplayName("admin.pipeline.write-enabled=true ⇒ 설정 변경 엔드포인트 등록")
+    void writeEnabledExplicitly() {
+        contextRunner
+                .withPropertyValues("admin.pipeline.write-enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(PipelineControlEndpoint.class));
+    }
+}
@@ -0,0 +1,229 @@
+package kr.co.yournews.notify.admin.service;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import kr.co.yournews.notify.admin.dto.PipelineStatusDto;
+import kr.co.yournews.notify.config.properties.DeliveryScheduleProperties;
+import kr.co.yournews.notify.config.properties.RabbitMqProperties;
+import kr.co.yournews.notify.consumer.FcmNotificationConsumer;
+import kr.co.yournews.notify.fcm.app.FcmApp;
+import kr.co.yournews.notify.fcm.app.FcmAppRegistry;
+import kr.co.yournews.notify.fcm.log.FcmEvent;
+import kr.co.yournews.notify.fcm.log.FcmEventRecorder;
+import kr.co.yournews.notify.schedule.service.DeliveryScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.net.ConnectException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PipelineControlServiceTest {
+
+    private static final String QUEUE = "q.main";
+
+    private SimpleMessageListenerContainer container;
+    private AmqpAdmin amqpAdmin;
+    private FcmEventRecorder fcmEventRecorder;
+    private DeliveryScheduler deliveryScheduler;
+    private RabbitMqProperties rabbitMqProperties;
+    private FcmApp defaultApp;
+    private PipelineControlService pipelineControlService;
+
+    @BeforeEach
+    void setUp() {
+        container = mock(SimpleMessageListenerContainer.class);
+        RabbitListenerEndpointRegistry registry = mock(RabbitListenerEndpointRegistry.class);
+        when(registry.getListenerContainer(FcmNotificationConsumer.LISTENER_ID)).thenReturn(container);
+
+        amqpAdmin = mock(AmqpAdmin.class);
+        fcmEventRecorder = mock(FcmEventRecorder.class);
+        deliveryScheduler = mock(DeliveryScheduler.class);
+
+        rabbitMqProperties = new RabbitMqProperties();
+        rabbitMqProperties.setQueueName(QUEUE);
+        rabbitMqProperties.setRetryTtl(5000);
+        rabbitMqProperties.setConcurrentConsumers(4);
+        rabbitMqProperties.setMaxConcurrentConsumers(8);
+        rabbitMqProperties.setPrefetchCount(10);
+        rabbitMqProperties.setMaxRetry(3);
+
+        DeliveryScheduleProperties deliveryScheduleProperties = new DeliveryScheduleProperties();
+        deliveryScheduleProperties.setBrokerDelays(List.of(60_000L));
+
+        defaultApp = new FcmApp(FcmAppRegistry.DEFAULT_APP_NAME, mock(FirebaseMessaging.class), 2, 0);
+
+        pipelineControlService = new PipelineControlService(
+                registry,
+                amqpAdmin,
+                new FcmAppRegistry(defaultApp, Map.of()),
+                fcmEventRecorder,
+                deliveryScheduler,
+                rabbitMqProperties,
+                deliveryScheduleProperties
+        );
+    }
+
+    @Test
+    @DisplayName("상태 조회 ⇒ 컨슈머/큐/앱/처리량 집계, 조회 실패한 큐는 null")
+    void getStatus() {
+        // given
+        when(container.isRunning()).thenReturn(true);
+        when(container.getActiveConsumerCount()).thenReturn(5);
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 120, 5));
+        when(amqpAdmin.getQueueInfo(QUEUE + ".retry"))
+                .thenThrow(new AmqpConnectException(new ConnectException("refused")));
+        when(fcmEventRecorder.lastWindowRate(FcmEvent.SENT)).thenReturn(350.0);
+        when(deliveryScheduler.inMemorySize()).thenReturn(7);
+        defaultApp.tryAcquire(0);
+
+        // when
+        PipelineStatusDto status = pipelineControlService.getStatus();
+
+        // then
+        assertEquals(5, status.listener().activeConsumers());
+        assertEquals(10, status.listener().prefetchCount());
+        assertEquals(new PipelineStatusDto.Retry(3, 5000), status.retry());
+
+        assertEquals(4, status.queues().size());
+        assertEquals(120, status.queues().get(0).messageCount());
+        assertNull(status.queues().get(1).messageCount());
+        assertEquals(QUEUE + ".delay.60000", status.queues().get(3).name());
+
+        assertEquals(1, status.apps().get(0).inFlight());
+        assertEquals(350.0, status.sendRate());
+        assertEquals(7, status.scheduledInMemory());
+    }
+
+    @Test
+    @DisplayName("컨슈머 수 증가 ⇒ 최대 컨슈머 수부터 변경, prefetch 유지 시 재시작 없음")
+    void increaseConsumers() {
+        // when
+        pipelineControlService.updateListener(10, 16, null);
+
+        // then
+        InOrder order = inOrder(container);
+        order.verify(container).setMaxConcurrentConsumers(16);
+        order.verify(container).setConcurrentConsumers(10);
+        verify(container, never()).stop();
+
+        assertEquals(10, rabbitMqProperties.getConcurrentConsumers());
+        assertEquals(16, rabbitMqProperties.getMaxConcurrentConsumers());
+    }
+
+    @Test
+    @DisplayName("컨슈머 수 감소 ⇒ 최소 컨슈머 수부터 변경")
+    void decreaseConsumers() {
+        // when
+        pipelineControlService.updateListener(1, 2, null);
+
+        // then
+        InOrder order = inOrder(container);
+        order.verify(container).setConcurrentConsumers(1);
+        order.verify(container).setMaxConcurrentConsumers(2);
+    }
+
+    @Test
+    @DisplayName("prefetch 변경 ⇒ 실행 중인 컨테이너 재시작")
+    void changePrefetchRestartsContainer() {
+        // given
+        when(container.isRunning()).thenReturn(true);
+
+        // when
+        pipelineControlService.updateListener(null, null, 50);
+
+        // then
+        InOrder order = inOrder(container);
+        order.verify(container).setPrefetchCount(50);
+        order.verify(container).stop();
+        order.verify(container).start();
+        assertEquals(50, rabbitMqProperties.getPrefetchCount());
+    }
+
+    @Test
+    @DisplayName("잘못된 리스너 설정 ⇒ 컨테이너 변경 없이 예외")
+    void rejectInvalidListenerSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> pipelineControlService.updateListener(10, 5, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> pipelineControlService.updateListener(null, null, 0));
+
+        verify(container, never()).setConcurrentConsumers(anyInt());
+        verify(container, never()).setPrefetchCount(anyInt());
+        assertEquals(4, rabbitMqProperties.getConcurrentConsumers());
+    }
+
+    @Test
+    @DisplayName("재시도 횟수 변경")
+    void updateRetry() {
+        pipelineControlService.updateRetry(5);
+
+        assertEquals(5, rabbitMqProperties.getMaxRetry());
+        assertThrows(IllegalArgumentException.class, () -> pipelineControlService.updateRetry(0));
+    }
+
+    @Test
+    @DisplayName("앱 동시 전송 수 축소 ⇒ 전송 중인 요청 반환 후 새 한도 적용")
+    void shrinkAppConcurrency() {
+        // given: 2개 슬롯 모두 사용 중
+        assertTrue(defaultApp.tryAcquire(0));
+        assertTrue(defaultApp.tryAcquire(0));
+
+        // when
+        PipelineStatusDto.App app = pipelineControlService.updateApp(null, 1, null);
+
+        // then
+        assertEquals(1, app.maxConcurrency());
+        assertEquals(2, app.inFlight());
+
+        defaultApp.release();
+        assertFalse(defaultApp.tryAcquire(0));     // 1개 반환 → 아직 새 한도(1) 사용 중
+
+        defaultApp.release();
+        assertTrue(defaultApp.tryAcquire(0));
+    }
+
+    @Test
+    @DisplayName("앱 동시 전송 수 확대")
+    void growAppConcurrency() {
+        pipelineControlService.updateApp(FcmAppRegistry.DEFAULT_APP_NAME, 3, null);
+
+        assertTrue(defaultApp.tryAcquire(0));
+        assertTrue(defaultApp.tryAcquire(0));
+        assertTrue(defaultApp.tryAcquire(0));
+        assertFalse(defaultApp.tryAcquire(0));
+    }
+
+    @Test
+    @DisplayName("앱 초당 전송 한도 설정 / 변경 / 해제")
+    void changeAppRateLimit() {
+        assertEquals(100.0, pipelineControlService.updateApp(null, null, 100.0).rateLimit());
+        assertEquals(200.0, pipelineControlService.updateApp(null, null, 200.0).rateLimit());
+        assertEquals(0.0, pipelineControlService.updateApp(null, null, 0.0).rateLimit());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 앱 ⇒ 예외")
+    void rejectUnknownApp() {
+        assertThrows(IllegalArgumentException.class,
+                () -> pipelineControlService.updateApp("unknown", 1, null));
+    }
+}
@@ -2,17 +2,23 @@ package kr.co.yournews.notify.consumer;
 
 import kr.co.yournews.notify.config.properties.RabbitMqProperties;
 import kr.co.yournews.notify.consumer.dto.FcmMessageDto;
+import kr.co.yournews.notify.fcm.log.FcmEvent;
+import kr.co.yournews.notify.fcm.log.FcmEventRecorder;
+import kr.co.yournews.notify.fcm.preference.service.NotificationPreferenceFilter;
 import kr.co.yournews.notify.fcm.sender.FcmNotificationSender;
 import kr.co.yournews.notify.fcm.sender.exception.FcmSendFailureException;
 import kr.co.yournews.notify.fcm.sender.response.FcmSendResult;
 import kr.co.yournews.notify.fcm.token.service.FcmTokenService;
+import kr.co.yournews.notify.schedule.service.DeliveryScheduler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
@@ -21,8 +27,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,6 +48,15 @@ class FcmNotificationConsumerTest {
     @Mock
     private FcmTokenService fcmTokenService;
 
+    @Mock
+    private NotificationPreferenceFilter notificationPreferenceFilter;
+
+    @Mock
+    private DeliveryScheduler deliveryScheduler;
+
+    @Mock
+    private FcmEventRecorder fcmEventRecorder;
+
     @Mock
     private RabbitTemplate rabbitTemplate;
 
@@ -51,6 +68,7 @@ class FcmNotificationConsumerTest {
 
     private static final String QUEUE = "queue";
     private static final String DEAD_EXCHANGE = "dead.exchange";
+    private static final String RETRY_EXCHANGE = "retry.exchange";
     private static final String ROUTING_KEY = "key";
 
     private static final FcmMessageDto dto =
@@ -59,7 +77,12 @@ class FcmNotificationConsumerTest {
                     "title",
                     "publicId",
                     true,
-                    false
+                    false,
+                    "category",
+                    null,
+                    null,
+                    null,
+                    null
             );
 
     private Message amqpWithXDeath(long count) {
@@ -75,13 +98,15 @@ class FcmNotificationConsumerTest {
     @DisplayName("컷오프 도달 ⇒ DLQ로 수동 전송")
     void cutoffThenSendToDlq() {
         // given
+        when(notificationPreferenceFilter.isDeliverable(anyString(), anyString(), anyLong())).thenReturn(true);
         when(rabbitMqProperties.getQueueName()).thenReturn(QUEUE);
+        when(rabbitMqProperties.getMaxRetry()).thenReturn(3);
         when(rabbitMqProperties.getDeadExchangeName()).thenReturn(DEAD_EXCHANGE);
         when(rabbitMqProperties.getRoutingKey()).thenReturn(ROUTING_KEY);
-        when(fcmNotificationSender.sendNotification(anyString(), anyString(), anyString(), anyMap()))
-                .thenReturn(FcmSendResult.failure("any-error"));
+        when(fcmNotificationSender.sendNotification(any(), anyString(), anyString(), anyString(), anyMap()))
+                .thenReturn(FcmSendResult.failure("INTERNAL", "any-error"));
 
-        // deathCount = 2 → nextAttempt = 3 → MAX_RETRY = 3 도달
+        // deathCount = 2 → nextAttempt = 3 → maxRetry = 3 도달
         Message amqp = amqpWithXDeath(2);
 
         // when
@@ -90,19 +115,21 @@ class FcmNotificationConsumerTest {
         // then
         verify(rabbitTemplate, times(1))
                 .convertAndSend(eq(DEAD_EXCHANGE), eq(ROUTING_KEY + ".dlq"), eq(dto));
-        verify(fcmTokenService, never()).removeByToken(anyString());
+        verify(fcmTokenService, never()).deferRemoval(anyString());
     }
 
     @Test
     @DisplayName("컷오프 미도달 ⇒ RuntimeException 던져 재시도 큐로 이동")
     void notCutoffThenThrowForRetry() {
         // given
+        when(notificationPreferenceFilter.isDeliverable(anyString(), anyString(), anyLong())).thenReturn(true);
         when(rabbitMqProperties.getQueueName()).thenReturn(QUEUE);
+        when(rabbitMqProperties.getMaxRetry()).thenReturn(3);
 
-        when(fcmNotificationSender.sendNotification(anyString(), anyString(), anyString(), anyMap()))
-                .thenReturn(FcmSendResult.failure("retryable"));
+        when(fcmNotificationSender.sendNotification(any(), anyString(), anyString(), anyString(), anyMap()))
+                .thenReturn(FcmSendResult.failure("UNAVAILABLE", "retryable"));
 
-        // deathCount = 1 → nextAttempt = 2 → MAX_RETRY = 3 미도달
+        // deathCount = 1 → nextAttempt = 2 → maxRetry = 3 미도달
         Message amqp = amqpWithXDeath(1);
 
         // when & then
@@ -112,12 +139,60 @@ class FcmNotificationConsumerTest {
         verify(rabbitTemplate, never()).convertAndSend(anyString(), Optional.of(anyString()), any(), any());
     }
 
+    @Test
+    @DisplayName("로컬 전송 한도 초과 ⇒ 컷오프 횟수여도 DLQ로 보내지 않고 재시도 큐로 재발행")
+    void throttledNeverDeadLettered() {
+        // given
+        when(notificationPreferenceFilter.isDeliverable(anyString(), anyString(), anyLong())).thenReturn(true);
+        when(rabbitMqProperties.getRetryExchangeName()).thenReturn(RETRY_EXCHANGE);
+        when(rabbitMqProperties.getRoutingKey()).thenReturn(ROUTING_KEY);
+        when(fcmNotificationSender.sendNotification(any(), anyString(), anyString(), anyString(), anyMap()))
+                .thenReturn(FcmSendResult.throttled(FcmNotificationSender.THROTTLED, "throttled"));
+
+        // deathCount = 2 → 일반 실패였다면 maxRetry = 3 도달
+        Message amqp = amqpWithXDeath(2);
+
+        // when
+        fcmNotificationConsumer.handleMessage(dto, amqp);
+
+        // then
+        ArgumentCaptor<Message> republished = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate, times(1)).send(eq(RETRY_EXCHANGE), eq(ROUTING_KEY + ".retry"), republished.capture());
+        assertEquals(MessageDeliveryMode.PERSISTENT, republished.getValue().getMessageProperties().getDeliveryMode());
+        assertEquals(amqp.getMessageProperties().getHeaders(), republished.getValue().getMessageProperties().getHeaders());
+        verify(rabbitTemplate, never()).convertAndSend(eq(DEAD_EXCHANGE), anyString(), any(Object.class));
+        verify(fcmEventRecorder, times(1)).record(FcmEvent.THROTTLED, FcmNotificationSender.THROTTLED);
+        verify(fcmEventRecorder, never()).record(eq(FcmEvent.DEAD_LETTERED), any());
+    }
+
+    @Test
+    @DisplayName("재시도 불가 실패(등록되지 않은 앱 등) ⇒ 첫 시도에 바로 DLQ로 이동")
+    void nonRetryableThenSendToDlqImmediately() {
+        // given
+        when(notificationPreferenceFilter.isDeliverable(anyString(), anyString(), anyLong())).thenReturn(true);
+        when(rabbitMqProperties.getQueueName()).thenReturn(QUEUE);
+        when(rabbitMqProperties.getDeadExchangeName()).thenReturn(DEAD_EXCHANGE);
+        when(rabbitMqProperties.getRoutingKey()).thenReturn(ROUTING_KEY);
+        when(fcmNotificationSender.sendNotification(any(), anyString(), anyString(), anyString(), anyMap()))
+                .thenReturn(FcmSendResult.nonRetryable(FcmNotificationSender.UNKNOWN_APP, "unknown app"));
+
+        Message amqp = amqpWithXDeath(0);
+
+        // when
+        fcmNotificationConsumer.handleMessage(dto, amqp);
+
+        // then
+        verify(rabbitTemplate, times(1))
+                .convertAndSend(eq(DEAD_EXCHANGE), eq(ROUTING_KEY + ".dlq"), eq(dto));
+    }
+
     @Test
     @DisplayName("비재시도 케이스 ⇒ 토큰 삭제")
     void nonRetryRemoveInvalidToken() {
         // given
-        when(fcmNotificationSender.sendNotification(anyString(), anyString(), anyString(), anyMap()))
-                .thenReturn(FcmSendResult.invalidToken("bad-token"));
+        when(notificationPreferenceFilter.isDeliverable(anyString(), anyString(), anyLong())).thenReturn(true);
+        when(fcmNotificationSender.sendNotification(any(), anyString(), anyString(), anyString(), anyMap()))
+                .thenReturn(FcmSendResult.invalidToken("UNREGISTERED", "bad-token"));
 
         Message amqp = amqpWithXDeath(3);
 
@@ -125,7 +200,44 @@ class FcmNotificationConsumerTest {
         fcmNotificationConsumer.handleMessage(dto, amqp);
 
         // then
-        verify(fcmTokenService, times(1)).removeByToken(eq("token"));
+        verify(fcmTokenService, times(1)).deferRemoval(eq("token"));
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), Optional.of(anyString()), any(), any());
+    }
+
+    @Test
+    @DisplayName("수신자 설정에 의해 필터링 ⇒ 전송하지 않고 ACK")
+    void filteredByPreferenceThenSkip() {
+        // given
+        when(notificationPreferenceFilter.isDeliverable(eq("token"), eq("category"), anyLong())).thenReturn(false);
+
+        Message amqp = amqpWithXDeath(0);
+
+        // when
+        fcmNotificationConsumer.handleMessage(dto, amqp);
+
+        // then
+        verify(fcmNotificationSender, never()).sendNotification(any(), anyString(), anyString(), anyString(), anyMap());
+        verify(fcmTokenService, never()).deferRemoval(anyString());
         verify(rabbitTemplate, never()).convertAndSend(anyString(), Optional.of(anyString()), any(), any());
     }
+
+    @Test
+    @DisplayName("예약 전송 ⇒ 전송 시각까지 보류하고 전송하지 않음")
+    void scheduledThenDeferred() {
+        // given
+        FcmMessageDto scheduled = new FcmMessageDto(
+                "token", "title", "publicId", false, false, "category",
+                System.currentTimeMillis() + 60_000L, null, null, null
+        );
+        when(deliveryScheduler.deferIfScheduled(eq(scheduled), anyLong())).thenReturn(true);
+
+        Message amqp = amqpWithXDeath(0);
+
+        // when
+        fcmNotificationConsumer.handleMessage(scheduled, amqp);
+
+        // then
+        verify(notificationPreferenceFilter, never()).isDeliverable(anyString(), anyString(), anyLong());
+        verify(fcmNotificationSender, never()).sendNotification(any(), anyString(), anyString(), anyString(), anyMap());
+    }
 }
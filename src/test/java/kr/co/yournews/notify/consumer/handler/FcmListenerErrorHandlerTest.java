@@ -0,0 +1,62 @@
+package kr.co.yournews.notify.consumer.handler;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import kr.co.yournews.notify.fcm.sender.exception.FcmSendFailureException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FcmListenerErrorHandlerTest {
+
+    private final FcmListenerErrorHandler errorHandler = new FcmListenerErrorHandler();
+
+    private Logger rootLogger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        rootLogger = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+        appender = new ListAppender<>();
+        appender.start();
+        rootLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rootLogger.detachAppender(appender);
+    }
+
+    private long warnCount() {
+        return appender.list.stream()
+                .filter(event -> event.getLevel().isGreaterOrEqual(Level.WARN))
+                .count();
+    }
+
+    @Test
+    @DisplayName("재시도용 전송 실패 예외 ⇒ 로그 없음")
+    void skipSendFailure() {
+        errorHandler.handleError(
+                new ListenerExecutionFailedException("failed", new FcmSendFailureException("UNAVAILABLE")));
+
+        assertEquals(0, warnCount());
+    }
+
+    @Test
+    @DisplayName("그 외 리스너 예외 ⇒ 기본 처리기와 동일하게 로그")
+    void logOtherFailures() {
+        errorHandler.handleError(
+                new ListenerExecutionFailedException("failed", new DataAccessResourceFailureException("db down")));
+
+        assertTrue(warnCount() > 0);
+    }
+}
@@ -0,0 +1,64 @@
+package kr.co.yournews.notify.fcm.log;
+
+import kr.co.yournews.notify.config.properties.FcmLogProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FcmEventRecorderTest {
+
+    private FcmEventRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        FcmLogProperties properties = new FcmLogProperties();
+        properties.setSamplesPerWindow(2);
+        recorder = new FcmEventRecorder(properties);
+    }
+
+    @Test
+    @DisplayName("집계 주기당 샘플링 한도까지만 상세 로그 허용")
+    void samplesUpToBudget() {
+        assertTrue(recorder.record(FcmEvent.SEND_FAILED, "UNAVAILABLE"));
+        assertTrue(recorder.record(FcmEvent.SEND_FAILED, "INTERNAL"));
+        assertFalse(recorder.record(FcmEvent.SEND_FAILED, "UNAVAILABLE"));
+
+        // 이벤트별로 한도를 따로 관리
+        assertTrue(recorder.record(FcmEvent.TOKEN_REMOVED, "UNREGISTERED"));
+    }
+
+    @Test
+    @DisplayName("집계 로그 출력 후 샘플링 한도 초기화")
+    void summarizeResetsBudget() {
+        recorder.record(FcmEvent.SEND_FAILED, null);
+        recorder.record(FcmEvent.SEND_FAILED, null);
+        assertFalse(recorder.record(FcmEvent.SEND_FAILED, null));
+
+        recorder.summarize();
+
+        assertTrue(recorder.record(FcmEvent.SEND_FAILED, null));
+    }
+
+    @Test
+    @DisplayName("직전 집계 주기 기준 초당 처리량 제공")
+    void lastWindowRate() {
+        recorder.record(FcmEvent.SENT, null);
+        recorder.record(FcmEvent.SENT, null);
+        recorder.record(FcmEvent.SENT, null);
+
+        assertEquals(0.0, recorder.lastWindowRate(FcmEvent.SENT));
+
+        recorder.summarize();   // 주기 길이 최소 1초
+
+        assertEquals(3.0, recorder.lastWindowRate(FcmEvent.SENT));
+        assertEquals(0.0, recorder.lastWindowRate(FcmEvent.SEND_FAILED));
+
+        recorder.summarize();
+
+        assertEquals(0.0, recorder.lastWindowRate(FcmEvent.SENT));
+    }
+}
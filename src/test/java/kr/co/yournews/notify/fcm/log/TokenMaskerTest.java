@@ -0,0 +1,30 @@
+package kr.co.yournews.notify.fcm.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenMaskerTest {
+
+    @Test
+    @DisplayName("토큰 마스킹 ⇒ 앞 8자리와 해시만 노출")
+    void maskToken() {
+        String token = "abcdefgh-very-long-fcm-token";
+
+        String masked = TokenMasker.mask(token);
+
+        assertTrue(masked.startsWith("abcdefgh..."));
+        assertFalse(masked.contains("very-long"));
+        assertEquals(masked, TokenMasker.mask(token));
+    }
+
+    @Test
+    @DisplayName("짧은 토큰 / null ⇒ 원문 노출 없음")
+    void maskShortOrNullToken() {
+        assertEquals("***", TokenMasker.mask("short"));
+        assertEquals("null", TokenMasker.mask(null));
+    }
+}
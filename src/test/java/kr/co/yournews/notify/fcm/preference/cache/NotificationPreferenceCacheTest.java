@@ -0,0 +1,170 @@
+package kr.co.yournews.notify.fcm.preference.cache;
+
+import kr.co.yournews.notify.config.properties.NotificationPreferenceProperties;
+import kr.co.yournews.notify.fcm.preference.model.NotificationPreference;
+import kr.co.yournews.notify.fcm.preference.repository.NotificationPreferenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPreferenceCacheTest {
+
+    @Mock
+    private NotificationPreferenceRepository notificationPreferenceRepository;
+
+    private NotificationPreferenceProperties properties;
+    private NotificationPreferenceCache cache;
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LocalDateTime T2 = LocalDateTime.of(2026, 10, 1, 10, 0);
+    private static final LocalDateTime T3 = LocalDateTime.of(2026, 10, 1, 11, 0);
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationPreferenceProperties();
+        properties.setEnabled(true);
+        cache = new NotificationPreferenceCache(notificationPreferenceRepository, properties);
+    }
+
+    private NotificationPreference preference(String token, boolean pushEnabled, LocalDateTime updatedAt) {
+        return new NotificationPreference(
+                token, pushEnabled, NotificationPreference.NO_MUTE, NotificationPreference.NO_MUTE,
+                null, Set.of(), updatedAt
+        );
+    }
+
+    @Test
+    @DisplayName("전체 재적재 ⇒ 새 스냅샷으로 교체 (삭제된 설정 정리)")
+    void reloadSwapsSnapshot() {
+        // given
+        when(notificationPreferenceRepository.findAll())
+                .thenReturn(List.of(preference("token-a", true, T1)))
+                .thenReturn(List.of(preference("token-b", false, T2)));
+
+        // when
+        cache.reload();
+        cache.reload();
+
+        // then
+        assertNull(cache.get("token-a"));
+        assertFalse(cache.get("token-b").pushEnabled());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("증분 갱신 ⇒ 최신 updated_at 이상(>=)으로 조회하고 워터마크 전진")
+    void refreshUsesAndAdvancesWatermark() {
+        // given
+        when(notificationPreferenceRepository.findAll())
+                .thenReturn(List.of(preference("token-a", true, T1), preference("token-b", true, T2)));
+        when(notificationPreferenceRepository.findAllUpdatedSince(T2))
+                .thenReturn(List.of(preference("token-b", false, T2), preference("token-c", true, T3)));
+        when(notificationPreferenceRepository.findAllUpdatedSince(T3))
+                .thenReturn(List.of());
+
+        cache.reload();
+
+        // when
+        cache.refresh();
+        cache.refresh();
+
+        // then
+        assertFalse(cache.get("token-b").pushEnabled());    // 워터마크와 같은 시각의 변경도 반영
+        assertTrue(cache.get("token-c").pushEnabled());
+        assertEquals(3, cache.size());
+        verify(notificationPreferenceRepository, times(1)).findAllUpdatedSince(T2);
+        verify(notificationPreferenceRepository, times(1)).findAllUpdatedSince(T3);
+    }
+
+    @Test
+    @DisplayName("DB 조회 실패 ⇒ 기존 스냅샷과 워터마크 유지")
+    void failureKeepsSnapshot() {
+        // given
+        when(notificationPreferenceRepository.findAll())
+                .thenReturn(List.of(preference("token-a", false, T1)))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+        when(notificationPreferenceRepository.findAllUpdatedSince(T1))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(List.of());
+
+        cache.reload();
+
+        // when
+        cache.reload();
+        cache.refresh();
+        cache.refresh();
+
+        // then
+        assertFalse(cache.get("token-a").pushEnabled());
+        verify(notificationPreferenceRepository, times(2)).findAllUpdatedSince(T1);
+    }
+
+    @Test
+    @DisplayName("빈 테이블 ⇒ 증분 갱신이 전체 재적재를 반복하지 않음")
+    void emptyTableDoesNotTriggerFullReload() {
+        // given
+        when(notificationPreferenceRepository.findAll()).thenReturn(List.of());
+        when(notificationPreferenceRepository.findAllUpdatedSince(NotificationPreferenceCache.INITIAL_WATERMARK))
+                .thenReturn(List.of())
+                .thenReturn(List.of(preference("token-a", false, T1)));
+
+        cache.reload();
+
+        // when
+        cache.refresh();
+        cache.refresh();
+
+        // then
+        verify(notificationPreferenceRepository, times(1)).findAll();
+        assertFalse(cache.get("token-a").pushEnabled());
+    }
+
+    @Test
+    @DisplayName("최초 적재 실패 ⇒ 전체 재적재 없이 초기 워터마크부터 증분으로 적재")
+    void firstLoadFailureRecoversIncrementally() {
+        // given
+        when(notificationPreferenceRepository.findAll())
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+        when(notificationPreferenceRepository.findAllUpdatedSince(NotificationPreferenceCache.INITIAL_WATERMARK))
+                .thenReturn(List.of(preference("token-a", true, T1)));
+
+        cache.initialize();
+
+        // when
+        cache.refresh();
+
+        // then
+        verify(notificationPreferenceRepository, times(1)).findAll();
+        assertTrue(cache.get("token-a").pushEnabled());
+    }
+
+    @Test
+    @DisplayName("비활성화 ⇒ DB 조회 없음")
+    void disabledSkipsRepository() {
+        properties.setEnabled(false);
+
+        cache.initialize();
+        cache.refresh();
+        cache.reload();
+
+        verifyNoInteractions(notificationPreferenceRepository);
+    }
+}
@@ -0,0 +1,94 @@
+package kr.co.yournews.notify.fcm.preference.service;
+
+import kr.co.yournews.notify.config.properties.NotificationPreferenceProperties;
+import kr.co.yournews.notify.fcm.preference.cache.NotificationPreferenceCache;
+import kr.co.yournews.notify.fcm.preference.model.NotificationPreference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPreferenceFilterTest {
+
+    @Mock
+    private NotificationPreferenceCache notificationPreferenceCache;
+
+    private NotificationPreferenceProperties properties;
+    private NotificationPreferenceFilter filter;
+
+    private static final String TOKEN = "token";
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationPreferenceProperties();
+        filter = new NotificationPreferenceFilter(notificationPreferenceCache, properties);
+    }
+
+    private NotificationPreference preference(boolean pushEnabled, int muteStart, int muteEnd, Set<String> muted) {
+        return new NotificationPreference(TOKEN, pushEnabled, muteStart, muteEnd, SEOUL, muted, LocalDateTime.now());
+    }
+
+    private long seoulMillis(int hour, int minute) {
+        return ZonedDateTime.of(2025, 1, 1, hour, minute, 0, 0, SEOUL).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("설정이 없는 토큰 ⇒ 전송")
+    void noPreferenceThenDeliverable() {
+        when(notificationPreferenceCache.get(TOKEN)).thenReturn(null);
+
+        assertTrue(filter.isDeliverable(TOKEN, "category", seoulMillis(12, 0)));
+    }
+
+    @Test
+    @DisplayName("푸시 수신 거부 ⇒ 필터링")
+    void pushDisabledThenFiltered() {
+        when(notificationPreferenceCache.get(TOKEN))
+                .thenReturn(preference(false, NotificationPreference.NO_MUTE, NotificationPreference.NO_MUTE, Set.of()));
+
+        assertFalse(filter.isDeliverable(TOKEN, "category", seoulMillis(12, 0)));
+    }
+
+    @Test
+    @DisplayName("수신 거부한 카테고리 ⇒ 필터링, 그 외 카테고리 ⇒ 전송")
+    void mutedCategoryThenFiltered() {
+        when(notificationPreferenceCache.get(TOKEN))
+                .thenReturn(preference(true, NotificationPreference.NO_MUTE, NotificationPreference.NO_MUTE, Set.of("muted")));
+
+        assertFalse(filter.isDeliverable(TOKEN, "muted", seoulMillis(12, 0)));
+        assertTrue(filter.isDeliverable(TOKEN, "other", seoulMillis(12, 0)));
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 방해 금지 시간 (23:00 ~ 07:00) ⇒ 현지 시각 기준 필터링")
+    void overnightMuteWindowThenFiltered() {
+        when(notificationPreferenceCache.get(TOKEN))
+                .thenReturn(preference(true, 23 * 60, 7 * 60, Set.of()));
+
+        assertFalse(filter.isDeliverable(TOKEN, null, seoulMillis(23, 30)));
+        assertFalse(filter.isDeliverable(TOKEN, null, seoulMillis(6, 59)));
+        assertTrue(filter.isDeliverable(TOKEN, null, seoulMillis(7, 0)));
+        assertTrue(filter.isDeliverable(TOKEN, null, seoulMillis(12, 0)));
+    }
+
+    @Test
+    @DisplayName("필터 비활성화 ⇒ 설정과 관계없이 전송")
+    void disabledThenDeliverable() {
+        properties.setEnabled(false);
+
+        assertTrue(filter.isDeliverable(TOKEN, "category", seoulMillis(12, 0)));
+    }
+}
@@ -4,109 +4,173 @@ import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
+import kr.co.yournews.notify.config.properties.FirebaseProperties;
+import kr.co.yournews.notify.fcm.app.FcmApp;
+import kr.co.yournews.notify.fcm.app.FcmAppRegistry;
 import kr.co.yournews.notify.fcm.sender.response.FcmSendResult;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 
+import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class FcmNotificationSenderTest {
 
+    private FirebaseMessaging messaging;
+    private FirebaseMessaging stagingMessaging;
+    private FcmApp defaultApp;
+    private FcmApp stagingApp;
+    private FcmNotificationSender sender;
+
+    @BeforeEach
+    void setUp() {
+        messaging = mock(FirebaseMessaging.class);
+        stagingMessaging = mock(FirebaseMessaging.class);
+        defaultApp = new FcmApp(FcmAppRegistry.DEFAULT_APP_NAME, messaging, 4, 0);
+        stagingApp = new FcmApp("staging", stagingMessaging, 1, 0);
+
+        FirebaseProperties properties = new FirebaseProperties();
+        properties.setAcquireTimeout(0L);
+
+        sender = new FcmNotificationSender(
+                new FcmAppRegistry(defaultApp, Map.of("staging", stagingApp)),
+                properties
+        );
+    }
+
     @Test
     @DisplayName("성공: success=true, shouldRemoveToken=false")
     void sendNotificationSuccess() throws Exception {
-        FcmNotificationSender sender = new FcmNotificationSender();
-        FirebaseMessaging messaging = mock(FirebaseMessaging.class);
-
-        try (MockedStatic<FirebaseMessaging> mocked = Mockito.mockStatic(FirebaseMessaging.class)) {
-            mocked.when(FirebaseMessaging::getInstance).thenReturn(messaging);
-            when(messaging.send(any(Message.class))).thenReturn("projects/x/messages/abc123");
+        when(messaging.send(any(Message.class))).thenReturn("projects/x/messages/abc123");
 
-            FcmSendResult result = sender.sendNotification("tok", "title", "content", Map.of());
+        FcmSendResult result = sender.sendNotification(null, "tok", "title", "content", Map.of());
 
-            assertTrue(result.success());
-            assertFalse(result.shouldRemoveToken());
-            assertTrue(result.message().contains("abc123"));
-            verify(messaging, times(1)).send(any(Message.class));
-        }
+        assertTrue(result.success());
+        assertFalse(result.shouldRemoveToken());
+        assertTrue(result.message().contains("abc123"));
+        verify(messaging, times(1)).send(any(Message.class));
+        assertEquals(0, defaultApp.inFlight());
     }
 
     @Test
     @DisplayName("유효하지 않은 토큰 : UNREGISTERED → invalidToken 처리(shouldRemoveToken=true)")
     void sendNotificationInvalidTokenUnregistered() throws Exception {
-        FcmNotificationSender sender = new FcmNotificationSender();
-        FirebaseMessaging messaging = mock(FirebaseMessaging.class);
-
         FirebaseMessagingException ex = mock(FirebaseMessagingException.class);
         when(ex.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNREGISTERED);
         when(ex.getMessage()).thenReturn("unregistered token");
+        when(messaging.send(any(Message.class))).thenThrow(ex);
 
-        try (MockedStatic<FirebaseMessaging> mocked = Mockito.mockStatic(FirebaseMessaging.class)) {
-            mocked.when(FirebaseMessaging::getInstance).thenReturn(messaging);
-            when(messaging.send(any(Message.class))).thenThrow(ex);
-
-            FcmSendResult result = sender.sendNotification("token", "title", "content", Map.of());
+        FcmSendResult result = sender.sendNotification(null, "token", "title", "content", Map.of());
 
-            assertFalse(result.success());
-            assertTrue(result.shouldRemoveToken());
-            assertTrue(result.message().contains("unregistered"));
-            verify(messaging).send(any(Message.class));
-        }
+        assertFalse(result.success());
+        assertTrue(result.shouldRemoveToken());
+        assertTrue(result.message().contains("unregistered"));
+        verify(messaging).send(any(Message.class));
     }
 
     @Test
     @DisplayName("유효하지 않은 토큰: INVALID_ARGUMENT → invalidToken 처리(shouldRemoveToken=true)")
     void sendNotificationInvalidTokenInvalidArgument() throws Exception {
-        FcmNotificationSender sender = new FcmNotificationSender();
-        FirebaseMessaging messaging = mock(FirebaseMessaging.class);
-
         FirebaseMessagingException ex = mock(FirebaseMessagingException.class);
         when(ex.getMessagingErrorCode()).thenReturn(MessagingErrorCode.INVALID_ARGUMENT);
         when(ex.getMessage()).thenReturn("invalid argument");
+        when(messaging.send(any(Message.class))).thenThrow(ex);
 
-        try (MockedStatic<FirebaseMessaging> mocked = Mockito.mockStatic(FirebaseMessaging.class)) {
-            mocked.when(FirebaseMessaging::getInstance).thenReturn(messaging);
-            when(messaging.send(any(Message.class))).thenThrow(ex);
+        FcmSendResult result = sender.sendNotification(null, "token", "title", "content", Map.of());
 
-            FcmSendResult result = sender.sendNotification("token", "title", "content", Map.of());
-
-            assertFalse(result.success());
-            assertTrue(result.shouldRemoveToken());
-            assertTrue(result.message().contains("invalid"));
-            verify(messaging).send(any(Message.class));
-        }
+        assertFalse(result.success());
+        assertTrue(result.shouldRemoveToken());
+        assertTrue(result.message().contains("invalid"));
+        verify(messaging).send(any(Message.class));
     }
 
     @Test
     @DisplayName("일반 실패: 기타 에러코드 → failure 처리(shouldRemoveToken=false)")
     void sendNotificationFailure() throws Exception {
-        FcmNotificationSender sender = new FcmNotificationSender();
-        FirebaseMessaging messaging = mock(FirebaseMessaging.class);
-
         FirebaseMessagingException ex = mock(FirebaseMessagingException.class);
         when(ex.getMessagingErrorCode()).thenReturn(MessagingErrorCode.INTERNAL);
         when(ex.getMessage()).thenReturn("internal error");
+        when(messaging.send(any(Message.class))).thenThrow(ex);
+
+        FcmSendResult result = sender.sendNotification(null, "token", "title", "content", Map.of());
+
+        assertFalse(result.success());
+        assertFalse(result.shouldRemoveToken());
+        assertTrue(result.message().contains("internal"));
+        assertEquals("INTERNAL", result.errorCode());
+        verify(messaging).send(any(Message.class));
+    }
 
-        try (MockedStatic<FirebaseMessaging> mocked = Mockito.mockStatic(FirebaseMessaging.class)) {
-            mocked.when(FirebaseMessaging::getInstance).thenReturn(messaging);
-            when(messaging.send(any(Message.class))).thenThrow(ex);
+    @Test
+    @DisplayName("앱 이름 지정 ⇒ 해당 앱으로 전송")
+    void sendNotificationToNamedApp() throws Exception {
+        when(stagingMessaging.send(any(Message.class))).thenReturn("projects/staging/messages/1");
+
+        FcmSendResult result = sender.sendNotification("staging", "token", "title", "content", Map.of());
+
+        assertTrue(result.success());
+        verify(stagingMessaging).send(any(Message.class));
+        verify(messaging, never()).send(any(Message.class));
+    }
 
-            FcmSendResult result = sender.sendNotification("token", "title", "content", Map.of());
+    @Test
+    @DisplayName("등록되지 않은 앱 ⇒ FCM 호출 없이 재시도 불가 처리")
+    void sendNotificationUnknownApp() throws Exception {
+        FcmSendResult result = sender.sendNotification("unknown", "token", "title", "content", Map.of());
+
+        assertFalse(result.success());
+        assertEquals(FcmNotificationSender.UNKNOWN_APP, result.errorCode());
+        assertTrue(result.nonRetryable());
+        verify(messaging, never()).send(any(Message.class));
+    }
 
-            assertFalse(result.success());
-            assertFalse(result.shouldRemoveToken());
-            assertTrue(result.message().contains("internal"));
-            verify(messaging).send(any(Message.class));
-        }
+    @Test
+    @DisplayName("할당량 소진 ⇒ 해당 앱만 일시 중단, 다른 앱은 계속 전송")
+    void quotaExceededPausesOnlyThatApp() throws Exception {
+        FirebaseMessagingException ex = mock(FirebaseMessagingException.class);
+        when(ex.getMessagingErrorCode()).thenReturn(MessagingErrorCode.QUOTA_EXCEEDED);
+        when(ex.getMessage()).thenReturn("quota exceeded");
+        when(stagingMessaging.send(any(Message.class))).thenThrow(ex);
+        when(messaging.send(any(Message.class))).thenReturn("projects/x/messages/1");
+
+        sender.sendNotification("staging", "token", "title", "content", Map.of());
+        FcmSendResult paused = sender.sendNotification("staging", "token", "title", "content", Map.of());
+        FcmSendResult other = sender.sendNotification(null, "token", "title", "content", Map.of());
+
+        assertTrue(paused.throttled());
+        assertEquals(FcmNotificationSender.THROTTLED, paused.errorCode());
+        verify(stagingMessaging, times(1)).send(any(Message.class));
+        assertTrue(other.success());
+    }
+
+    @Test
+    @DisplayName("토큰/데이터 누락 ⇒ 재시도 불가 처리, 전송 슬롯 사용 없음")
+    void malformedMessageDoesNotLeakSlot() throws Exception {
+        Map<String, String> nullValue = new HashMap<>();
+        nullValue.put("publicId", null);
+
+        FcmSendResult nullToken = sender.sendNotification(null, null, "title", "content", Map.of());
+        FcmSendResult nullData = sender.sendNotification(null, "token", "title", "content", null);
+        FcmSendResult nullPublicId = sender.sendNotification(null, "token", "title", "content", nullValue);
+
+        assertEquals(FcmNotificationSender.INVALID_MESSAGE, nullToken.errorCode());
+        assertEquals(FcmNotificationSender.INVALID_MESSAGE, nullData.errorCode());
+        assertEquals(FcmNotificationSender.INVALID_MESSAGE, nullPublicId.errorCode());
+        assertTrue(nullToken.nonRetryable());
+        assertTrue(nullData.nonRetryable());
+        assertTrue(nullPublicId.nonRetryable());
+        assertEquals(0, defaultApp.inFlight());
+        verify(messaging, never()).send(any(Message.class));
     }
 }
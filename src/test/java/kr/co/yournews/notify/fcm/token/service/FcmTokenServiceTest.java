@@ -1,6 +1,8 @@
 package kr.co.yournews.notify.fcm.token.service;
 
 import kr.co.yournews.notify.fcm.token.repository.FcmTokenRepository;
+import kr.co.yournews.notify.spool.MappedSpool;
+import kr.co.yournews.notify.spool.model.SpoolRecordType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,10 +10,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class FcmTokenServiceTest {
@@ -19,6 +26,9 @@ public class FcmTokenServiceTest {
     @Mock
     private FcmTokenRepository fcmTokenRepository;
 
+    @Mock
+    private MappedSpool mappedSpool;
+
     @InjectMocks
     private FcmTokenService fcmTokenService;
 
@@ -46,4 +56,43 @@ public class FcmTokenServiceTest {
         // when & then
         assertThrows(RuntimeException.class, () -> fcmTokenService.removeByToken(token));
     }
+
+    @Test
+    @DisplayName("삭제 예약 - 스풀 기록 성공 시 DB 호출 없음")
+    void deferRemovalToSpool() {
+        // given
+        when(mappedSpool.append(SpoolRecordType.TOKEN_REMOVAL, token)).thenReturn(true);
+
+        // when
+        fcmTokenService.deferRemoval(token);
+
+        // then
+        verify(fcmTokenRepository, never()).deleteByToken(anyString());
+    }
+
+    @Test
+    @DisplayName("삭제 예약 - 스풀 기록 불가 시 즉시 삭제")
+    void deferRemovalFallbackToDirectDelete() {
+        // given
+        when(mappedSpool.append(SpoolRecordType.TOKEN_REMOVAL, token)).thenReturn(false);
+
+        // when
+        fcmTokenService.deferRemoval(token);
+
+        // then
+        verify(fcmTokenRepository, times(1)).deleteByToken(token);
+    }
+
+    @Test
+    @DisplayName("토큰 일괄 삭제 성공")
+    void removeAllByTokensSuccess() {
+        // given
+        List<String> tokens = List.of("token-1", "token-2");
+
+        // when
+        fcmTokenService.removeAllByTokens(tokens);
+
+        // then
+        verify(fcmTokenRepository, times(1)).deleteAllByTokens(tokens);
+    }
 }
@@ -0,0 +1,169 @@
+package kr.co.yournews.notify.schedule.service;
+
+import kr.co.yournews.notify.config.properties.DeliveryScheduleProperties;
+import kr.co.yournews.notify.config.properties.RabbitMqProperties;
+import kr.co.yournews.notify.consumer.dto.FcmMessageDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.net.ConnectException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeliverySchedulerTest {
+
+    private static final String EXCHANGE = "exchange";
+    private static final String DELAY_EXCHANGE = "delay.exchange";
+    private static final String ROUTING_KEY = "key";
+
+    private DeliveryTimeResolver deliveryTimeResolver;
+    private RabbitTemplate rabbitTemplate;
+    private DeliveryScheduleProperties deliveryScheduleProperties;
+    private DeliveryScheduler deliveryScheduler;
+
+    private final FcmMessageDto scheduled = new FcmMessageDto(
+            "token", "title", "publicId", false, false, "category",
+            1L, null, null, null
+    );
+
+    @BeforeEach
+    void setUp() {
+        deliveryTimeResolver = mock(DeliveryTimeResolver.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+
+        deliveryScheduleProperties = new DeliveryScheduleProperties();
+        deliveryScheduleProperties.setTickMs(50L);
+        deliveryScheduleProperties.setInMemoryHorizon(5_000L);
+        deliveryScheduleProperties.setMaxInMemory(10);
+        deliveryScheduleProperties.setBrokerDelays(List.of(30_000L, 5_000L));
+
+        RabbitMqProperties rabbitMqProperties = new RabbitMqProperties();
+        rabbitMqProperties.setExchangeName(EXCHANGE);
+        rabbitMqProperties.setDelayExchangeName(DELAY_EXCHANGE);
+        rabbitMqProperties.setRoutingKey(ROUTING_KEY);
+
+        deliveryScheduler = new DeliveryScheduler(
+                deliveryTimeResolver, deliveryScheduleProperties, rabbitMqProperties, rabbitTemplate
+        );
+        deliveryScheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deliveryScheduler.shutdown();
+    }
+
+    /**
+     * 현재 시각 기준 delayMs 뒤로 전송 시각을 계산하도록 설정 후 보류 요청
+     */
+    private FcmMessageDto deferAfter(long delayMs) {
+        long now = System.currentTimeMillis();
+        when(deliveryTimeResolver.resolve(eq(scheduled), anyLong())).thenReturn(now + delayMs);
+
+        assertTrue(deliveryScheduler.deferIfScheduled(scheduled, now));
+        return scheduled.withDeliverAt(now + delayMs);
+    }
+
+    @Test
+    @DisplayName("예약 정보 없음 ⇒ 보류하지 않음")
+    void notScheduledThenSendNow() {
+        FcmMessageDto immediate = new FcmMessageDto(
+                "token", "title", "publicId", false, false, "category",
+                null, null, null, null
+        );
+
+        assertFalse(deliveryScheduler.deferIfScheduled(immediate, System.currentTimeMillis()));
+        verify(deliveryTimeResolver, never()).resolve(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("전송 시각이 한 틱 이내 ⇒ 보류하지 않음")
+    void dueWithinTickThenSendNow() {
+        long now = System.currentTimeMillis();
+        when(deliveryTimeResolver.resolve(eq(scheduled), anyLong())).thenReturn(now + 10L);
+
+        assertFalse(deliveryScheduler.deferIfScheduled(scheduled, now));
+        assertEquals(0, deliveryScheduler.inMemorySize());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 inMemoryHorizon 이내 ⇒ 타이밍 휠에 보류, 브로커 발행 없음")
+    void shortDelayThenHoldInMemory() {
+        deferAfter(3_000L);
+
+        assertEquals(1, deliveryScheduler.inMemorySize());
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("대기 시간이 inMemoryHorizon 초과 ⇒ 남은 시간 이하의 가장 긴 지연 큐로 발행")
+    void longDelayThenLongestFittingBrokerTier() {
+        FcmMessageDto resolved = deferAfter(40_000L);
+
+        assertEquals(0, deliveryScheduler.inMemorySize());
+        verify(rabbitTemplate, times(1)).convertAndSend(DELAY_EXCHANGE, ROUTING_KEY + ".delay.30000", resolved);
+    }
+
+    @Test
+    @DisplayName("휠이 가득 참 ⇒ 짧은 대기 시간이어도 가장 짧은 지연 큐로 발행")
+    void wheelFullThenShortestBrokerTier() {
+        deliveryScheduleProperties.setMaxInMemory(1);
+        deferAfter(3_000L);
+
+        FcmMessageDto overflow = deferAfter(2_000L);
+
+        assertEquals(1, deliveryScheduler.inMemorySize());
+        verify(rabbitTemplate, times(1)).convertAndSend(DELAY_EXCHANGE, ROUTING_KEY + ".delay.5000", overflow);
+    }
+
+    @Test
+    @DisplayName("전송 시각 도달 ⇒ 메인 큐로 재발행")
+    void dueThenReleaseToMainQueue() {
+        FcmMessageDto resolved = deferAfter(200L);
+
+        verify(rabbitTemplate, timeout(2_000L).times(1)).convertAndSend(EXCHANGE, ROUTING_KEY, resolved);
+        assertEquals(0, deliveryScheduler.inMemorySize());
+    }
+
+    @Test
+    @DisplayName("재발행 실패 ⇒ 휠에 재등록 후 다시 재발행")
+    void releaseFailureThenRetry() {
+        doThrow(new AmqpConnectException(new ConnectException("refused")))
+                .doNothing()
+                .when(rabbitTemplate).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class));
+
+        FcmMessageDto resolved = deferAfter(200L);
+
+        verify(rabbitTemplate, timeout(4_000L).times(2)).convertAndSend(EXCHANGE, ROUTING_KEY, resolved);
+        assertEquals(0, deliveryScheduler.inMemorySize());
+    }
+
+    @Test
+    @DisplayName("종료 ⇒ 보류 중인 메시지를 메인 큐로 반환")
+    void shutdownReturnsHeldMessages() {
+        FcmMessageDto resolved = deferAfter(3_000L);
+
+        deliveryScheduler.shutdown();
+
+        verify(rabbitTemplate, times(1)).convertAndSend(EXCHANGE, ROUTING_KEY, resolved);
+        assertEquals(0, deliveryScheduler.inMemorySize());
+    }
+}
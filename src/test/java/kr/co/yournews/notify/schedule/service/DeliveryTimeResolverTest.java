@@ -0,0 +1,88 @@
+package kr.co.yournews.notify.schedule.service;
+
+import kr.co.yournews.notify.config.properties.NotificationPreferenceProperties;
+import kr.co.yournews.notify.consumer.dto.FcmMessageDto;
+import kr.co.yournews.notify.fcm.preference.cache.NotificationPreferenceCache;
+import kr.co.yournews.notify.fcm.preference.model.NotificationPreference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryTimeResolverTest {
+
+    @Mock
+    private NotificationPreferenceCache notificationPreferenceCache;
+
+    private DeliveryTimeResolver resolver;
+
+    private static final String TOKEN = "token";
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @BeforeEach
+    void setUp() {
+        resolver = new DeliveryTimeResolver(notificationPreferenceCache, new NotificationPreferenceProperties());
+    }
+
+    private FcmMessageDto message(Long deliverAt, String localDeliveryTime, Integer smearMinutes) {
+        return new FcmMessageDto(TOKEN, "title", "publicId", false, false, null,
+                deliverAt, localDeliveryTime, smearMinutes, null);
+    }
+
+    private long millis(ZoneId zoneId, int day, int hour, int minute) {
+        return ZonedDateTime.of(2025, 1, day, hour, minute, 0, 0, zoneId).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("deliverAt 지정 ⇒ 해당 시각")
+    void absoluteDeliverAt() {
+        long now = millis(SEOUL, 1, 12, 0);
+
+        assertEquals(now + 60_000L, resolver.resolve(message(now + 60_000L, null, null), now));
+    }
+
+    @Test
+    @DisplayName("현지 시각 지정 (기본 시간대) ⇒ 이미 지났으면 다음 날 해당 시각")
+    void localDeliveryTimeNextDay() {
+        when(notificationPreferenceCache.get(TOKEN)).thenReturn(null);
+        long now = millis(SEOUL, 1, 9, 30);
+
+        assertEquals(millis(SEOUL, 2, 8, 0), resolver.resolve(message(null, "08:00", null), now));
+    }
+
+    @Test
+    @DisplayName("현지 시각 지정 ⇒ 수신자 시간대 기준으로 계산")
+    void localDeliveryTimeUsesRecipientZone() {
+        when(notificationPreferenceCache.get(TOKEN)).thenReturn(new NotificationPreference(
+                TOKEN, true, NotificationPreference.NO_MUTE, NotificationPreference.NO_MUTE,
+                NEW_YORK, Set.of(), LocalDateTime.now()));
+        long now = millis(NEW_YORK, 1, 3, 0);
+
+        assertEquals(millis(NEW_YORK, 1, 8, 0), resolver.resolve(message(null, "08:00", null), now));
+    }
+
+    @Test
+    @DisplayName("분산 전송 ⇒ 구간 내 토큰별 고정 오프셋")
+    void smearWithinWindow() {
+        long now = millis(SEOUL, 1, 12, 0);
+
+        long first = resolver.resolve(message(null, null, 10), now);
+        long second = resolver.resolve(message(null, null, 10), now);
+
+        assertEquals(first, second);
+        assertTrue(first >= now && first < now + 10 * 60_000L);
+    }
+}
@@ -0,0 +1,91 @@
+package kr.co.yournews.notify.schedule.wheel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 10L;
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 시각 이전에는 꺼내지 않고, 만료 시각에 꺼냄")
+    void expiresAtDueTime() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 8, 3, START);
+        List<String> expired = new ArrayList<>();
+
+        assertTrue(wheel.add(START + 55, "a"));
+
+        wheel.advance(START + 50, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(START + 60, expired::add);
+        assertEquals(List.of("a"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("상위 단계에 등록된 항목도 하위 단계로 내려와 만료 시각 순서대로 꺼냄")
+    void cascadesAcrossLevels() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, 8, 3, START);
+        long[] delays = {5, 75, 80, 640, 1_234, 5_000, 5_110};
+        for (long delay : delays) {
+            assertTrue(wheel.add(START + delay, START + delay));
+        }
+
+        List<long[]> fired = new ArrayList<>();
+        for (long now = START; now <= START + 6_000; now += TICK_MS) {
+            long current = now;
+            wheel.advance(now, due -> fired.add(new long[]{due, current}));
+        }
+
+        assertEquals(delays.length, fired.size());
+        for (int i = 0; i < fired.size(); i++) {
+            long due = fired.get(i)[0];
+            long firedAt = fired.get(i)[1];
+            assertEquals(START + delays[i], due);
+            assertTrue(firedAt >= due, "fired early: " + due);
+            assertTrue(firedAt < due + TICK_MS, "fired late: " + due);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 만료된 항목은 등록하지 않음")
+    void rejectsExpired() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 8, 3, START);
+
+        assertFalse(wheel.add(START, "now"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("휠 범위를 넘는 항목 ⇒ IllegalArgumentException")
+    void rejectsBeyondHorizon() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 8, 2, START);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> wheel.add(START + wheel.horizonMillis() + TICK_MS, "far"));
+    }
+
+    @Test
+    @DisplayName("종료 시 보류 중인 항목을 모두 꺼냄")
+    void drainAll() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, 8, 3, START);
+        wheel.add(START + 20, "a");
+        wheel.add(START + 2_000, "b");
+
+        List<String> drained = new ArrayList<>();
+        wheel.drainAll(drained::add);
+
+        assertEquals(2, drained.size());
+        assertEquals(0, wheel.size());
+    }
+}
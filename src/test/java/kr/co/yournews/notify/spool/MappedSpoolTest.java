@@ -0,0 +1,121 @@
+package kr.co.yournews.notify.spool;
+
+import kr.co.yournews.notify.config.properties.SpoolProperties;
+import kr.co.yournews.notify.spool.model.SpoolRecord;
+import kr.co.yournews.notify.spool.model.SpoolRecordType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    private SpoolProperties properties;
+    private MappedSpool spool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new SpoolProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(256);
+        properties.setMaxSegments(4);
+
+        spool = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        spool.close();
+    }
+
+    private MappedSpool open() throws IOException {
+        MappedSpool mappedSpool = new MappedSpool(properties);
+        mappedSpool.open();
+        return mappedSpool;
+    }
+
+    private List<String> payloads(List<SpoolRecord> records) {
+        return records.stream().map(SpoolRecord::payload).toList();
+    }
+
+    @Test
+    @DisplayName("기록한 순서대로 읽고, 반영 완료 전까지 다시 읽을 수 있음")
+    void appendAndRead() {
+        spool.append(SpoolRecordType.TOKEN_REMOVAL, "token-1");
+        spool.append(SpoolRecordType.TOKEN_REMOVAL, "token-2");
+
+        List<SpoolRecord> records = spool.read(10);
+        assertEquals(List.of("token-1", "token-2"), payloads(records));
+        assertEquals(SpoolRecordType.TOKEN_REMOVAL, records.get(0).type());
+
+        spool.rewind();
+        assertEquals(2, spool.read(10).size());
+
+        spool.acknowledge();
+        assertTrue(spool.read(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("재기동 시 체크포인트 이후 기록만 다시 읽음")
+    void replayAfterRestart() throws IOException {
+        spool.append(SpoolRecordType.TOKEN_REMOVAL, "token-1");
+        spool.append(SpoolRecordType.TOKEN_REMOVAL, "token-2");
+        spool.append(SpoolRecordType.TOKEN_REMOVAL, "token-3");
+
+        spool.read(1);
+        spool.acknowledge();
+        spool.read(10);     // 반영 전 종료
+        spool.close();
+
+        spool = open();
+
+        assertEquals(List.of("token-2", "token-3"), payloads(spool.read(10)));
+    }
+
+    @Test
+    @DisplayName("세그먼트를 넘겨 기록하고, 미반영 세그먼트 한도를 넘으면 기록 거부")
+    void rollSegmentsUntilLimit() {
+        int appended = 0;
+        for (int i = 0; i < 100; i++) {
+            if (spool.append(SpoolRecordType.TOKEN_REMOVAL, "token-" + i)) appended++;
+        }
+        assertTrue(appended > 0 && appended < 100);
+
+        List<String> drained = new ArrayList<>();
+        List<SpoolRecord> records;
+        while (!(records = spool.read(7)).isEmpty()) {
+            drained.addAll(payloads(records));
+            spool.acknowledge();
+        }
+
+        assertEquals(appended, drained.size());
+        assertEquals("token-0", drained.get(0));
+        assertEquals("token-" + (appended - 1), drained.get(appended - 1));
+
+        // 반영 완료 후에는 다시 기록 가능
+        assertTrue(spool.append(SpoolRecordType.TOKEN_REMOVAL, "after"));
+    }
+
+    @Test
+    @DisplayName("비활성화 ⇒ 기록하지 않음")
+    void disabled() throws IOException {
+        properties.setEnabled(false);
+        MappedSpool disabled = open();
+
+        assertFalse(disabled.append(SpoolRecordType.TOKEN_REMOVAL, "token"));
+        assertTrue(disabled.read(10).isEmpty());
+    }
+}
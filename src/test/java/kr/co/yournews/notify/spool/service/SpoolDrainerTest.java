@@ -0,0 +1,94 @@
+package kr.co.yournews.notify.spool.service;
+
+import kr.co.yournews.notify.config.properties.SpoolProperties;
+import kr.co.yournews.notify.fcm.token.service.FcmTokenService;
+import kr.co.yournews.notify.spool.MappedSpool;
+import kr.co.yournews.notify.spool.model.SpoolRecord;
+import kr.co.yournews.notify.spool.model.SpoolRecordType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpoolDrainerTest {
+
+    private MappedSpool mappedSpool;
+    private FcmTokenService fcmTokenService;
+    private SpoolDrainer spoolDrainer;
+
+    @BeforeEach
+    void setUp() {
+        mappedSpool = mock(MappedSpool.class);
+        fcmTokenService = mock(FcmTokenService.class);
+
+        SpoolProperties properties = new SpoolProperties();
+        properties.setBatchSize(3);
+        properties.setMaxBatchesPerRun(2);
+
+        spoolDrainer = new SpoolDrainer(mappedSpool, fcmTokenService, properties);
+    }
+
+    private SpoolRecord removal(String token) {
+        return new SpoolRecord(SpoolRecordType.TOKEN_REMOVAL, token);
+    }
+
+    @Test
+    @DisplayName("배치 단위 반영 ⇒ 중복 토큰 제거 후 삭제, 반영 후 체크포인트 갱신")
+    void drainDeduplicatesAndAcknowledges() {
+        // given
+        when(mappedSpool.read(3))
+                .thenReturn(List.of(removal("token-1"), removal("token-2"), removal("token-1")))
+                .thenReturn(List.of());
+
+        // when
+        int batches = spoolDrainer.drain();
+
+        // then
+        assertEquals(1, batches);
+        verify(fcmTokenService, times(1)).removeAllByTokens(List.of("token-1", "token-2"));
+        verify(mappedSpool, times(1)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("기록이 계속 남아 있어도 주기당 최대 배치 수까지만 반영")
+    void drainStopsAtMaxBatchesPerRun() {
+        // given
+        when(mappedSpool.read(anyInt())).thenReturn(List.of(removal("token")));
+
+        // when
+        int batches = spoolDrainer.drain();
+
+        // then
+        assertEquals(2, batches);
+        verify(mappedSpool, times(2)).read(3);
+        verify(mappedSpool, times(2)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 ⇒ 체크포인트 유지(rewind) 후 다음 주기로 미룸")
+    void drainRewindsOnFailure() {
+        // given
+        when(mappedSpool.read(anyInt())).thenReturn(List.of(removal("token")));
+        doThrow(new QueryTimeoutException("timeout")).when(fcmTokenService).removeAllByTokens(anyList());
+
+        // when
+        int batches = spoolDrainer.drain();
+
+        // then
+        assertEquals(0, batches);
+        verify(mappedSpool, times(1)).rewind();
+        verify(mappedSpool, never()).acknowledge();
+    }
+}